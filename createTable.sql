@@ -104,6 +104,7 @@ CREATE TABLE `chat_messages` (
                                  `created_at` TIMESTAMP NOT NULL,
                                  `user_nickname` VARCHAR(50) NOT NULL,
                                  PRIMARY KEY (`id`),
+                                 KEY `idx_chat_messages_room_id_id` (`chat_room_id`, `id`),
                                  FOREIGN KEY (`user_id`) REFERENCES `users` (`id`) ON DELETE CASCADE,
                                  FOREIGN KEY (`chat_room_id`) REFERENCES `chat_rooms` (`id`) ON DELETE CASCADE
 );
@@ -239,4 +240,21 @@ CREATE TABLE `join_post_replies` (
                                      FOREIGN KEY (`join_post_comment_id`) REFERENCES `join_post_comments` (`id`) ON DELETE CASCADE
 );
 
+-- Notification Archive Table (읽은 지 오래된 알림 보관, notification.retention.mode=archive 일 때 사용)
+CREATE TABLE `notification_archive` (
+                                        `id` BIGINT NOT NULL,
+                                        `user_id` BIGINT NOT NULL,
+                                        `message` VARCHAR(255),
+                                        `is_read` BIT(1) NOT NULL,
+                                        `created_at` DATETIME(6) NOT NULL,
+                                        `notification_type` VARCHAR(255),
+                                        `related_entity_id` BIGINT,
+                                        `unread_count` INT NOT NULL DEFAULT 1,
+                                        `archived_at` DATETIME(6) NOT NULL,
+                                        PRIMARY KEY (`id`, `created_at`),
+                                        KEY `idx_notification_archive_user_id` (`user_id`, `id`)
+);
+
+-- (선택) 월 단위 날짜 파티션 레이아웃은 notificationArchivePartition.sql 참고
+
 show tables;
\ No newline at end of file
@@ -0,0 +1,21 @@
+-- (선택) notification_archive 월 단위 RANGE 파티션 레이아웃
+-- createTable.sql로 notification_archive를 만든 뒤, 필요할 때만 한 번 실행합니다.
+-- 파티션으로 나누면 오래된 보관분을 DELETE 없이 DROP PARTITION으로 즉시 정리할 수 있습니다.
+-- (PRIMARY KEY에 created_at이 포함되어 있으므로 created_at 기준 파티션이 가능합니다.)
+
+ALTER TABLE `notification_archive` PARTITION BY RANGE COLUMNS(`created_at`) (
+    PARTITION p_old     VALUES LESS THAN ('2026-10-01'),
+    PARTITION p2026_10  VALUES LESS THAN ('2026-11-01'),
+    PARTITION p2026_11  VALUES LESS THAN ('2026-12-01'),
+    PARTITION p2026_12  VALUES LESS THAN ('2027-01-01'),
+    PARTITION p_max     VALUES LESS THAN (MAXVALUE)
+);
+
+-- 매월 운영 작업 (예시, 날짜와 파티션 이름을 바꿔서 실행)
+-- 1) 다음 달 파티션 추가
+--    ALTER TABLE `notification_archive` REORGANIZE PARTITION p_max INTO (
+--        PARTITION p2027_01 VALUES LESS THAN ('2027-02-01'),
+--        PARTITION p_max    VALUES LESS THAN (MAXVALUE)
+--    );
+-- 2) 보관 기간이 지난 파티션 제거
+--    ALTER TABLE `notification_archive` DROP PARTITION p_old;
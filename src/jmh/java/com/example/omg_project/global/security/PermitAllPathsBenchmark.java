@@ -0,0 +1,51 @@
+package com.example.omg_project.global.security;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JWTFilter의 허용 경로 확인 비용 비교
+ * - regexLoop: 기존 방식 (요청마다 정규식 목록을 String.matches로 순회)
+ * - permitAllPaths: Set 조회 + 접두사 비교
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class PermitAllPathsBenchmark {
+
+    // PermitAllPaths 도입 전 JWTFilter가 사용하던 목록
+    private static final List<String> REGEX_PATHS = List.of(
+            "/signup", "/signin", "/", "/api/users/login", "/api/users/signup", "/api/users/mail",
+            "/api/users/verify-code", "/api/users/check-email", "/api/users/check-usernick",
+            "/oauth2/.*", "/login/oauth2/.*", "/api/users/randomNickname", "/css/.*", "/js/.*", "/files/.*",
+            "/api/users/reset-password", "/api/users/verify-temporary-password", "/service",
+            "/reviewPost/", "/joinPost/", "/users/reset-user-password", "/api/weather", "/faq",
+            "/api/weather/coords", "/api/channel"
+    );
+
+    @Param({"/css/main.css", "/js/stomp-connect.js", "/signin", "/api/channel", "/chat/room/1"})
+    public String path;
+
+    @Benchmark
+    public boolean regexLoop() {
+        for (String pattern : REGEX_PATHS) {
+            if (path.matches(pattern)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @Benchmark
+    public boolean permitAllPaths() {
+        return PermitAllPaths.matches(path);
+    }
+}
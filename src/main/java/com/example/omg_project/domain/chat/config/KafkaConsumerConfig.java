@@ -1,13 +1,20 @@
 package com.example.omg_project.domain.chat.config;
 
+import com.example.omg_project.domain.chat.dto.ChatMessageEnvelope;
+import com.example.omg_project.global.config.VirtualThreadConfig;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
 import org.apache.kafka.clients.consumer.ConsumerConfig;
 import org.apache.kafka.common.serialization.StringDeserializer;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.kafka.annotation.EnableKafka;
 import org.springframework.kafka.config.ConcurrentKafkaListenerContainerFactory;
 import org.springframework.kafka.core.ConsumerFactory;
 import org.springframework.kafka.core.DefaultKafkaConsumerFactory;
+import org.springframework.kafka.core.MicrometerConsumerListener;
 import org.springframework.kafka.support.serializer.ErrorHandlingDeserializer;
 import org.springframework.kafka.support.serializer.JsonDeserializer;
 
@@ -16,42 +23,89 @@ import java.util.Map;
 
 @EnableKafka
 @Configuration
+@RequiredArgsConstructor
 public class KafkaConsumerConfig {
 
+    private final ObjectMapper objectMapper;
+    private final VirtualThreadConfig virtualThreadConfig;
+    private final MeterRegistry meterRegistry;
+
+    // Kafka 서버 주소 (생산자/소비자/관리 클라이언트 공통)
+    @Value("${spring.kafka.bootstrap-servers:http://ohmyguide.duckdns.org/:9092}")
+    private String bootstrapServers;
+
+    // 리스너 컨테이너의 소비자 스레드 수 (파티션 단위로 나뉘므로 서로 다른 채팅방을 병렬 처리, 파티션 수 이하로 설정)
+    @Value("${chat.kafka.listener.concurrency:3}")
+    private int concurrency;
+
     /**
      * Kafka 소비자 팩토리 빈을 정의합니다.
      *
-     * @return ConsumerFactory<String, String> Kafka 소비자 팩토리 인스턴스
+     * @return ConsumerFactory<String, ChatMessageEnvelope> Kafka 소비자 팩토리 인스턴스
      */
     @Bean
-    public ConsumerFactory<String, String> consumerFactory() {
+    public ConsumerFactory<String, ChatMessageEnvelope> consumerFactory() {
 
         Map<String, Object> config = new HashMap<>();   // Kafka 설정을 담을 맵 생성
 
-        config.put(ConsumerConfig.BOOTSTRAP_SERVERS_CONFIG, "http://ohmyguide.duckdns.org/:9092");  // Kafka 서버 주소 설정
+        config.put(ConsumerConfig.BOOTSTRAP_SERVERS_CONFIG, bootstrapServers);  // Kafka 서버 주소 설정
         config.put(ConsumerConfig.GROUP_ID_CONFIG, "chat-room-listener");   // Kafka 소비자 그룹 ID 설정
 
-        // 키와 값의 디시리얼라이저 설정
-        config.put(ConsumerConfig.KEY_DESERIALIZER_CLASS_CONFIG, StringDeserializer.class);
-        config.put(ConsumerConfig.VALUE_DESERIALIZER_CLASS_CONFIG, ErrorHandlingDeserializer.class);
-        config.put(ErrorHandlingDeserializer.VALUE_DESERIALIZER_CLASS, JsonDeserializer.class.getName());
-        config.put(JsonDeserializer.TRUSTED_PACKAGES, "*");
+        // 키는 문자열, 값은 공용 ObjectMapper로 ChatMessageEnvelope에 바로 매핑 (역직렬화 실패 시 null 값으로 전달)
+        JsonDeserializer<ChatMessageEnvelope> valueDeserializer =
+                new JsonDeserializer<>(ChatMessageEnvelope.class, objectMapper, false);
 
-        return new DefaultKafkaConsumerFactory<>(config);
+        DefaultKafkaConsumerFactory<String, ChatMessageEnvelope> factory = new DefaultKafkaConsumerFactory<>(config,
+                new StringDeserializer(),
+                new ErrorHandlingDeserializer<>(valueDeserializer));
+        // 소비자 클라이언트 메트릭 등록 (kafka.consumer.fetch.manager.records.lag 등 파티션별 컨슈머 랙 게이지 포함)
+        factory.addListener(new MicrometerConsumerListener<>(meterRegistry));
+        return factory;
     }
 
     /**
      * Kafka 리스너 컨테이너 팩토리 빈을 정의합니다.
      *
-     * @return ConcurrentKafkaListenerContainerFactory<String, String> Kafka 리스너 컨테이너 팩토리 인스턴스
+     * @return ConcurrentKafkaListenerContainerFactory<String, ChatMessageEnvelope> Kafka 리스너 컨테이너 팩토리 인스턴스
+     */
+    @Bean
+    public ConcurrentKafkaListenerContainerFactory<String, ChatMessageEnvelope> kafkaListenerContainerFactory() {
+
+        ConcurrentKafkaListenerContainerFactory<String, ChatMessageEnvelope> factory = new ConcurrentKafkaListenerContainerFactory<>();  // Kafka 리스너 컨테이너 팩토리 인스턴스 생성
+
+        factory.setConsumerFactory(consumerFactory());  // 소비자 팩토리 설정
+        factory.setConcurrency(concurrency);            // 파티션을 나눠 가질 소비자 수
+        applyVirtualThreads(factory);
+
+        return factory;
+    }
+
+    /**
+     * 한 번의 poll 결과를 묶어서 전달하는 배치 리스너 컨테이너 팩토리 빈을 정의합니다.
+     *
+     * @return ConcurrentKafkaListenerContainerFactory<String, ChatMessageEnvelope> 배치 모드 Kafka 리스너 컨테이너 팩토리 인스턴스
      */
     @Bean
-    public ConcurrentKafkaListenerContainerFactory<String, String> kafkaListenerContainerFactory() {
+    public ConcurrentKafkaListenerContainerFactory<String, ChatMessageEnvelope> batchKafkaListenerContainerFactory() {
 
-        ConcurrentKafkaListenerContainerFactory<String, String> factory = new ConcurrentKafkaListenerContainerFactory<>();  // Kafka 리스너 컨테이너 팩토리 인스턴스 생성
+        ConcurrentKafkaListenerContainerFactory<String, ChatMessageEnvelope> factory = new ConcurrentKafkaListenerContainerFactory<>();
 
         factory.setConsumerFactory(consumerFactory());  // 소비자 팩토리 설정
+        factory.setBatchListener(true);                 // poll 단위로 레코드 목록 전달
+        factory.setConcurrency(concurrency);            // 파티션을 나눠 가질 소비자 수
+        applyVirtualThreads(factory);
 
         return factory;
     }
+
+    /**
+     * 가상 스레드 모드일 때 리스너 컨테이너의 소비자 스레드를 가상 스레드로 실행
+     *
+     * @param factory 설정할 리스너 컨테이너 팩토리
+     */
+    private void applyVirtualThreads(ConcurrentKafkaListenerContainerFactory<String, ChatMessageEnvelope> factory) {
+        if (virtualThreadConfig.isEnabled()) {
+            factory.getContainerProperties().setListenerTaskExecutor(VirtualThreadConfig.virtualThreadExecutor("kafka-listener-"));
+        }
+    }
 }
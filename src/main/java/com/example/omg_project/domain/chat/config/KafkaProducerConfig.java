@@ -1,12 +1,18 @@
 package com.example.omg_project.domain.chat.config;
 
+import com.example.omg_project.domain.chat.dto.ChatMessageEnvelope;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
 import org.apache.kafka.clients.producer.ProducerConfig;
 import org.apache.kafka.common.serialization.StringSerializer;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.kafka.annotation.EnableKafka;
 import org.springframework.kafka.core.DefaultKafkaProducerFactory;
 import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.core.MicrometerProducerListener;
 import org.springframework.kafka.core.ProducerFactory;
 import org.springframework.kafka.support.serializer.JsonSerializer;
 
@@ -15,33 +21,64 @@ import java.util.Map;
 
 @EnableKafka
 @Configuration
+@RequiredArgsConstructor
 public class KafkaProducerConfig {
 
+    private final ObjectMapper objectMapper;
+    private final MeterRegistry meterRegistry;
+
+    // Kafka 서버 주소 (생산자/소비자/관리 클라이언트 공통)
+    @Value("${spring.kafka.bootstrap-servers:http://ohmyguide.duckdns.org/:9092}")
+    private String bootstrapServers;
+
+    // 배치를 채우기 위해 전송을 기다리는 최대 시간 (ms)
+    @Value("${chat.kafka.producer.linger-ms:5}")
+    private int lingerMs;
+
+    // 파티션별 배치 최대 크기 (bytes)
+    @Value("${chat.kafka.producer.batch-size:65536}")
+    private int batchSize;
+
+    // 압축 방식 (none, gzip, snappy, lz4, zstd)
+    @Value("${chat.kafka.producer.compression:lz4}")
+    private String compressionType;
+
     /**
      * Kafka 생산자 팩토리 빈을 정의합니다.
      *
-     * @return ProducerFactory<String, String> Kafka 생산자 팩토리 인스턴스
+     * @return ProducerFactory<String, ChatMessageEnvelope> Kafka 생산자 팩토리 인스턴스
      */
     @Bean
-    public ProducerFactory<String, String> producerFactory() {
+    public ProducerFactory<String, ChatMessageEnvelope> producerFactory() {
         Map<String, Object> config = new HashMap<>();   // Kafka 설정을 담을 맵 생성
 
-        config.put(ProducerConfig.BOOTSTRAP_SERVERS_CONFIG, "http://ohmyguide.duckdns.org/:9092");  // Kafka 서버 주소 설정
+        config.put(ProducerConfig.BOOTSTRAP_SERVERS_CONFIG, bootstrapServers);  // Kafka 서버 주소 설정
+
+        // 채팅 트래픽용 설정: 짧게 기다려 배치로 묶고 압축해서 브로커 요청 수를 줄임
+        config.put(ProducerConfig.LINGER_MS_CONFIG, lingerMs);
+        config.put(ProducerConfig.BATCH_SIZE_CONFIG, batchSize);
+        config.put(ProducerConfig.COMPRESSION_TYPE_CONFIG, compressionType);
 
-        // 키와 값의 시리얼라이저 설정
-        config.put(ProducerConfig.KEY_SERIALIZER_CLASS_CONFIG, StringSerializer.class);
-        config.put(ProducerConfig.VALUE_SERIALIZER_CLASS_CONFIG, JsonSerializer.class);
+        // 멱등 전송: 재시도 중 중복/순서 뒤바뀜 방지 (acks=all, in-flight 5 이하 필요)
+        config.put(ProducerConfig.ENABLE_IDEMPOTENCE_CONFIG, true);
+        config.put(ProducerConfig.ACKS_CONFIG, "all");
+        config.put(ProducerConfig.MAX_IN_FLIGHT_REQUESTS_PER_CONNECTION, 5);
 
-        return new DefaultKafkaProducerFactory<>(config);
+        // 키는 문자열, 값은 공용 ObjectMapper를 사용하는 JSON 시리얼라이저 (타입 헤더 없이 전송)
+        DefaultKafkaProducerFactory<String, ChatMessageEnvelope> factory = new DefaultKafkaProducerFactory<>(config,
+                new StringSerializer(),
+                new JsonSerializer<ChatMessageEnvelope>(objectMapper).noTypeInfo());
+        factory.addListener(new MicrometerProducerListener<>(meterRegistry)); // 프로듀서 클라이언트 메트릭 등록
+        return factory;
     }
 
     /**
      * Kafka 템플릿 빈을 정의합니다.
      *
-     * @return KafkaTemplate<String, String> Kafka 템플릿 인스턴스
+     * @return KafkaTemplate<String, ChatMessageEnvelope> Kafka 템플릿 인스턴스
      */
     @Bean
-    public KafkaTemplate<String, String> kafkaTemplate() {
+    public KafkaTemplate<String, ChatMessageEnvelope> kafkaTemplate() {
         return new KafkaTemplate<>(producerFactory());
     }
 }
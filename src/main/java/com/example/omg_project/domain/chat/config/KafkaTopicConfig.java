@@ -0,0 +1,59 @@
+package com.example.omg_project.domain.chat.config;
+
+import org.apache.kafka.clients.admin.AdminClientConfig;
+import org.apache.kafka.clients.admin.NewTopic;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.kafka.config.TopicBuilder;
+import org.springframework.kafka.core.KafkaAdmin;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 채팅 토픽 설정
+ * 모든 채팅방이 하나의 토픽을 사용하고, 채팅방 ID를 키로 파티션을 정합니다.
+ * 같은 채팅방의 메시지는 항상 같은 파티션으로 가므로 순서가 유지되고, 파티션 수만큼 채팅방을 병렬로 처리할 수 있습니다.
+ */
+@Configuration
+public class KafkaTopicConfig {
+
+    // Kafka 서버 주소 (생산자/소비자/관리 클라이언트 공통)
+    @Value("${spring.kafka.bootstrap-servers:http://ohmyguide.duckdns.org/:9092}")
+    private String bootstrapServers;
+
+    @Value("${chat.kafka.topic:chatTopic}")
+    private String chatTopic;
+
+    @Value("${chat.kafka.partitions:12}")
+    private int partitions;
+
+    @Value("${chat.kafka.replication-factor:1}")
+    private short replicationFactor;
+
+    /**
+     * 애플리케이션 시작 시 토픽을 확인하고 없으면 생성하는 KafkaAdmin 빈을 정의합니다.
+     *
+     * @return KafkaAdmin 인스턴스
+     */
+    @Bean
+    public KafkaAdmin kafkaAdmin() {
+        Map<String, Object> config = new HashMap<>();
+        config.put(AdminClientConfig.BOOTSTRAP_SERVERS_CONFIG, bootstrapServers);  // 생산자/소비자와 같은 Kafka 서버
+        return new KafkaAdmin(config);
+    }
+
+    /**
+     * 단일 채팅 토픽 빈을 정의합니다. (이미 있으면 파티션 수가 부족할 때만 늘림)
+     *
+     * @return NewTopic 채팅 토픽
+     */
+    @Bean
+    public NewTopic chatTopic() {
+        return TopicBuilder.name(chatTopic)
+                .partitions(partitions)
+                .replicas(replicationFactor)
+                .build();
+    }
+}
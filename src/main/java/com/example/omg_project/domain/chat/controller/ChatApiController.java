@@ -4,6 +4,8 @@ import com.amazonaws.services.s3.AmazonS3;
 import com.amazonaws.services.s3.model.PutObjectRequest;
 import com.example.omg_project.domain.chat.dto.ChatMessageDTO;
 import com.example.omg_project.domain.chat.service.ChatService;
+import com.example.omg_project.domain.user.entity.User;
+import com.example.omg_project.global.security.CurrentUser;
 import lombok.RequiredArgsConstructor;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.HttpStatus;
@@ -43,6 +45,27 @@ public class ChatApiController {
         return ResponseEntity.ok(messages);
     }
 
+    /**
+     * 특정 채팅방의 메시지를 커서 기반으로 조회하는 엔드포인트
+     * 최신 메시지 구간만 먼저 불러오고, 스크롤 시 가장 오래된 메시지 ID를 before로 넘겨 이전 기록을 조회
+     * 채팅방의 팀에 속한 사용자만 조회할 수 있습니다.
+     *
+     * @param user   현재 로그인한 사용자
+     * @param roomId 조회할 채팅방의 ID
+     * @param before 이 메시지 ID 이전의 기록만 조회 (없으면 최신 메시지부터)
+     * @param limit  조회할 메시지 수 (최대 100)
+     * @return 오래된 순으로 정렬된 메시지 목록
+     */
+    @GetMapping("/rooms/{roomId}/messages/history")
+    public ResponseEntity<List<ChatMessageDTO>> getMessageHistory(@CurrentUser User user,
+                                                                  @PathVariable("roomId") Long roomId,
+                                                                  @RequestParam(value = "before", required = false) Long before,
+                                                                  @RequestParam(value = "limit", defaultValue = "50") int limit) {
+        chatService.validateUserInChatRoom(roomId, user);
+        List<ChatMessageDTO> messages = chatService.getMessageHistory(roomId, before, limit);
+        return ResponseEntity.ok(messages);
+    }
+
     /**
      * 파일을 S3 버킷에 업로드하는 엔드포인트
      * HTTP POST 요청을 받아 파일을 업로드하고, 업로드된 파일의 URL을 반환
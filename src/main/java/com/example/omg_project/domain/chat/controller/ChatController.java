@@ -1,16 +1,21 @@
 package com.example.omg_project.domain.chat.controller;
 
-import com.example.omg_project.domain.chat.entity.ChatMessage;
+import com.example.omg_project.domain.chat.kafka.ChatMessageCodec;
 import com.example.omg_project.domain.chat.kafka.ChatMessageProducer;
+import com.example.omg_project.domain.chat.metrics.ChatMetrics;
 import com.example.omg_project.domain.chat.service.ChatService;
+import com.example.omg_project.domain.chat.websocket.ChatBroadcastCoalescer;
+import com.example.omg_project.domain.chat.websocket.StompUserPrincipal;
 import com.example.omg_project.domain.trip.service.TeamService;
 import com.example.omg_project.domain.trip.service.TripService;
 import com.example.omg_project.domain.user.entity.User;
-import com.example.omg_project.domain.user.service.UserService;
-import com.example.omg_project.global.jwt.util.JwtTokenizer;
+import com.example.omg_project.global.exception.CustomException;
+import com.example.omg_project.global.exception.ErrorCode;
+import com.example.omg_project.global.security.CurrentUser;
 import jakarta.servlet.http.Cookie;
-import jakarta.servlet.http.HttpServletRequest;
+import io.micrometer.core.instrument.Timer;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.messaging.handler.annotation.DestinationVariable;
 import org.springframework.messaging.handler.annotation.MessageMapping;
 import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
@@ -25,34 +30,36 @@ import org.springframework.web.socket.WebSocketSession;
 import java.util.Optional;
 
 @Controller
+@Slf4j
 @RequiredArgsConstructor
 public class ChatController {
 
     private final ChatService chatService;
-    private final JwtTokenizer jwtTokenizer;
-    private final UserService userService;
     private final ChatMessageProducer chatMessageProducer;
+    private final ChatMessageCodec chatMessageCodec;
+    private final ChatMetrics chatMetrics;
+    private final ChatBroadcastCoalescer chatBroadcastCoalescer;
 
 
     @MessageMapping("/chat/{roomId}")
     public void sendMessageToRoom(String message, @DestinationVariable String roomId, SimpMessageHeaderAccessor headerAccessor) {
-        String nickname = "Unknown user";
-        String username = "Unknown user";
-        String token = (String) headerAccessor.getSessionAttributes().get("jwtToken");
-        System.out.println("토큰" + token);
-        System.out.println("메세지" + message);
+        Timer.Sample sample = chatMetrics.start();
+        String outcome = "error";
+        try {
+            // 핸드쉐이크 시 만들어진 세션 사용자 사용 (메시지마다 토큰 파싱, DB 조회 없음)
+            if (!(headerAccessor.getUser() instanceof StompUserPrincipal principal) || principal.isExpired()) {
+                log.warn("인증되지 않은 사용자의 메시지를 무시합니다. 채팅방 ID: {}", roomId);
+                outcome = "unauthorized";
+                return;
+            }
 
-        // JWT 토큰에서 사용자 정보를 추출
-        if (token != null && !jwtTokenizer.isAccessTokenExpired(token)) {
-            username = jwtTokenizer.getUsernameFromToken(token);
-            Optional<User> userOptional = userService.findByUsername(username);
-            User user = userOptional.orElseThrow();
-            nickname = user.getUsernick();
+            // Kafka로 메시지 전송
+            chatMessageProducer.sendMessage(
+                    chatMessageCodec.toEnvelope(Long.parseLong(roomId), principal.userId(), principal.nickname(), message));
+            outcome = "accepted";
+        } finally {
+            chatMetrics.recordInbound(sample, outcome);
         }
-        System.out.println("-------------------------------------------------------------------------------"+message);
-
-        // Kafka로 메시지 전송
-        chatMessageProducer.sendMessage(roomId, nickname + ": " + message);
     }
 
     /** TODO
@@ -60,19 +67,16 @@ public class ChatController {
      *
      * @param roomId 채팅방 ID
      * @param model  모델 객체, 뷰로 데이터를 전달하는 역할
-     * @param request 클라이언트의 요청 정보를 담고 있는 HttpServletRequest 객체
+     * @param user 로그인한 사용자 (요청당 한 번만 조회한 엔티티)
      * @param redirectAttributes 리다이렉트 시에 데이터를 전달하기 위한 객체
      * @return 채팅방 화면을 반환하거나, 예외가 발생할 경우 홈 화면으로 리다이렉트
      */
     @GetMapping("/rooms/{roomId}")
-    public String getChatRoom(@PathVariable("roomId") Long roomId, Model model, HttpServletRequest request, RedirectAttributes redirectAttributes) {
+    public String getChatRoom(@PathVariable("roomId") Long roomId, Model model, @CurrentUser User user, RedirectAttributes redirectAttributes) {
         try {
-            // 쿠키에서 accessToken 찾기
-            String accessToken = jwtTokenizer.getAccessTokenFromCookies(request);
-
-            // accessToken을 통해 user 객채 찾기
-            String username = jwtTokenizer.getUsernameFromToken(accessToken);
-            User user = userService.findByUsername(username).orElseThrow();
+            if (user == null) {
+                throw new CustomException(ErrorCode.USER_NOT_FOUND);
+            }
 
             try {
                 // user객채와 채팅방 ID를 기반으로 사용자가 해당 채팅방에 참여하고 있는지 확인
@@ -86,6 +90,7 @@ public class ChatController {
             model.addAttribute("roomId", roomId);
             model.addAttribute("tripName", tripName);
             model.addAttribute("user", user);
+            model.addAttribute("chatBatchEnabled", chatBroadcastCoalescer.isEnabled()); // 묶음 프레임 구독 여부
 
             return "chat/chat";  // 채팅 화면으로 이동
 
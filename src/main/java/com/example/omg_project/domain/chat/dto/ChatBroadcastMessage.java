@@ -0,0 +1,16 @@
+package com.example.omg_project.domain.chat.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 서버 간 채팅 브로드캐스트를 위해 Redis로 전달되는 메시지
+ */
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class ChatBroadcastMessage {
+    private String destination;     // STOMP 목적지 (예: /topic/chat/1)
+    private ChatMessageDTO message; // 전송할 채팅 메시지
+}
@@ -0,0 +1,25 @@
+package com.example.omg_project.domain.chat.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * Kafka로 전달되는 채팅 메시지 봉투
+ * 텍스트 메시지는 message, 이미지 메시지는 imageUrl 중 하나만 값을 가집니다.
+ */
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ChatMessageEnvelope {
+    private Long roomId;
+    private Long userId;
+    private String nickname;
+    private String message;
+    private String imageUrl;
+    private long timestamp; // 웹소켓 프레임 수신 시각 (epoch millis)
+}
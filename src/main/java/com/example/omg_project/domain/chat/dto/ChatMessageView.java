@@ -0,0 +1,14 @@
+package com.example.omg_project.domain.chat.dto;
+
+import java.time.LocalDateTime;
+
+/**
+ * 채팅 기록 조회용 프로젝션
+ * User, ChatRoom 엔티티를 로딩하지 않고 화면에 필요한 컬럼만 조회합니다.
+ */
+public interface ChatMessageView {
+    Long getId();
+    String getMessage();
+    LocalDateTime getCreatedAt();
+    String getUserNickname();
+}
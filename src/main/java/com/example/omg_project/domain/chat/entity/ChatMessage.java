@@ -9,7 +9,9 @@ import lombok.Setter;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "chat_messages")
+@Table(name = "chat_messages", indexes = {
+        @Index(name = "idx_chat_messages_room_id_id", columnList = "chat_room_id, id")
+})
 @Getter
 @Setter
 @NoArgsConstructor
@@ -0,0 +1,90 @@
+package com.example.omg_project.domain.chat.kafka;
+
+import com.example.omg_project.domain.chat.dto.ChatMessageEnvelope;
+import com.example.omg_project.global.exception.CustomException;
+import com.example.omg_project.global.exception.ErrorCode;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+/**
+ * 클라이언트 페이로드와 ChatMessageEnvelope 사이의 변환을 담당하는 코덱
+ * 스레드 안전한 공용 ObjectMapper를 사용하므로 메시지마다 매퍼를 생성하지 않습니다.
+ */
+@Component
+@RequiredArgsConstructor
+public class ChatMessageCodec {
+
+    private static final String MESSAGE_FIELD = "message";
+    private static final String IMAGE_URL_FIELD = "imageUrl";
+
+    private final ObjectMapper objectMapper;
+
+    /**
+     * 클라이언트가 보낸 JSON 페이로드를 봉투로 변환
+     *
+     * @param roomId   채팅방 ID
+     * @param userId   보낸 사용자 ID
+     * @param nickname 보낸 사용자 닉네임
+     * @param payload  클라이언트 페이로드 (예: '{"message" : "안녕"}' 또는 '{"imageUrl" : "http://example.com/image.jpg"}')
+     * @return 변환된 ChatMessageEnvelope 객체
+     */
+    public ChatMessageEnvelope toEnvelope(Long roomId, Long userId, String nickname, String payload) {
+        JsonNode jsonNode;
+        try {
+            jsonNode = objectMapper.readTree(payload);
+        } catch (JsonProcessingException e) {
+            throw new CustomException(ErrorCode.INVALID_MESSAGE_FORMAT);
+        }
+
+        ChatMessageEnvelope envelope = ChatMessageEnvelope.builder()
+                .roomId(roomId)
+                .userId(userId)
+                .nickname(nickname)
+                .timestamp(System.currentTimeMillis())
+                .build();
+
+        if (jsonNode.hasNonNull(MESSAGE_FIELD)) {
+            envelope.setMessage(jsonNode.get(MESSAGE_FIELD).asText());
+        } else if (jsonNode.hasNonNull(IMAGE_URL_FIELD)) {
+            envelope.setImageUrl(jsonNode.get(IMAGE_URL_FIELD).asText());
+        } else {
+            throw new CustomException(ErrorCode.INVALID_MESSAGE_FORMAT);
+        }
+        return envelope;
+    }
+
+    /**
+     * DB에 저장할 메시지 본문 생성
+     * 기존 클라이언트가 파싱하는 '{"message" : ...}' / '{"imageUrl" : ...}' 형식을 유지합니다.
+     *
+     * @param envelope 채팅 메시지 봉투
+     * @return 저장용 JSON 문자열
+     */
+    public String toStoredMessage(ChatMessageEnvelope envelope) {
+        ObjectNode node = objectMapper.createObjectNode();
+        if (envelope.getMessage() != null) {
+            node.put(MESSAGE_FIELD, envelope.getMessage());
+        } else {
+            node.put(IMAGE_URL_FIELD, envelope.getImageUrl());
+        }
+        try {
+            return objectMapper.writeValueAsString(node);
+        } catch (JsonProcessingException e) {
+            throw new CustomException(ErrorCode.JSON_PROCESSING_ERROR);
+        }
+    }
+
+    /**
+     * 알림 등에 표시할 메시지 내용 (텍스트 또는 이미지 URL)
+     *
+     * @param envelope 채팅 메시지 봉투
+     * @return 표시용 문자열
+     */
+    public String toDisplayText(ChatMessageEnvelope envelope) {
+        return envelope.getMessage() != null ? envelope.getMessage() : envelope.getImageUrl();
+    }
+}
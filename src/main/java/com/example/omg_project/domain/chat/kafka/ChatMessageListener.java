@@ -1,29 +1,32 @@
 package com.example.omg_project.domain.chat.kafka;
 
 import com.example.omg_project.domain.chat.dto.ChatMessageDTO;
+import com.example.omg_project.domain.chat.dto.ChatMessageEnvelope;
 import com.example.omg_project.domain.chat.entity.ChatMessage;
 import com.example.omg_project.domain.chat.entity.ChatRoom;
+import com.example.omg_project.domain.chat.metrics.ChatMetrics;
+import com.example.omg_project.domain.chat.repository.ChatMessageBatchRepository;
 import com.example.omg_project.domain.chat.repository.ChatMessageRepository;
 import com.example.omg_project.domain.chat.repository.ChatRoomRepository;
 import com.example.omg_project.domain.chat.service.BadWordService;
-import com.example.omg_project.domain.notification.service.NotificationService;
+import com.example.omg_project.domain.chat.service.ChatBroadcastService;
+import com.example.omg_project.domain.notification.service.NotificationFanoutService;
 import com.example.omg_project.domain.trip.entity.Team;
 import com.example.omg_project.domain.trip.repository.TeamRepository;
 import com.example.omg_project.domain.user.entity.User;
 import com.example.omg_project.domain.user.repository.UserRepository;
 import com.example.omg_project.global.exception.CustomException;
 import com.example.omg_project.global.exception.ErrorCode;
-import com.fasterxml.jackson.databind.JsonNode;
-import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Timer;
 import lombok.RequiredArgsConstructor;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.kafka.annotation.KafkaListener;
 import org.springframework.kafka.support.KafkaHeaders;
 import org.springframework.messaging.handler.annotation.Header;
 import org.springframework.messaging.handler.annotation.Payload;
-import org.springframework.messaging.simp.SimpMessagingTemplate;
 import org.springframework.stereotype.Service;
 
-import java.io.IOException;
 import java.util.*;
 import java.util.logging.Level;
 import java.util.logging.Logger;
@@ -36,120 +39,276 @@ import java.util.logging.Logger;
 public class ChatMessageListener {
 
     private final ChatMessageRepository chatMessageRepository;
+    private final ChatMessageBatchRepository chatMessageBatchRepository;
     private final ChatRoomRepository chatRoomRepository;
     private final UserRepository userRepository;
     private final BadWordService badWordService;
-    private final NotificationService notificationService;
+    private final NotificationFanoutService notificationFanoutService;
     private final TeamRepository teamRepository;
-    private final SimpMessagingTemplate messagingTemplate; // STOMP 메시징을 위한 SimpMessagingTemplate 추가
+    private final ChatMessageCodec chatMessageCodec;
+    private final ChatMetrics chatMetrics;
+    private final ChatBroadcastService chatBroadcastService; // 브로커 모드에 맞춰 STOMP 구독자에게 전송
+
+    // true면 채팅 알림을 메시지마다 쌓지 않고 사용자·채팅방별 한 행으로 묶음
+    @Value("${notification.chat.collapse.enabled:false}")
+    private boolean collapseChatNotifications;
 
     private static final Logger logger = Logger.getLogger(ChatMessageListener.class.getName());
 
     /**
      * Kafka 메시지를 수신하는 리스너 메서드
      *
-     * @param message 수신된 메시지의 페이로드
-     * @param topic   메시지가 수신된 토픽 이름
+     * @param envelope 수신된 채팅 메시지 봉투
+     * @param topic    메시지가 수신된 토픽 이름
      * @throws Exception 메시지 처리 중 발생한 예외
      */
-    @KafkaListener(topicPattern = "chatTopic.*", groupId = "chat-room-listener")
-    public void listen(@Payload String message, @Header(KafkaHeaders.RECEIVED_TOPIC) String topic, @Header(KafkaHeaders.RECEIVED_PARTITION) int partition) throws Exception {
-        logger.info("수신된 토픽: " + topic + ", 수신된 파티션: " + partition + ", 메시지: " + message);
+    @KafkaListener(topicPattern = "chatTopic.*", groupId = "chat-room-listener",
+            autoStartup = "#{!${chat.kafka.batch-listener.enabled:false}}")
+    public void listen(@Payload ChatMessageEnvelope envelope, @Header(KafkaHeaders.RECEIVED_TOPIC) String topic, @Header(KafkaHeaders.RECEIVED_PARTITION) int partition) throws Exception {
+        logger.info("수신된 토픽: " + topic + ", 수신된 파티션: " + partition + ", 채팅방 ID: " + envelope.getRoomId());
+        String stage = "filter";
+        Timer.Sample sample = chatMetrics.start();
         try {
-            // 메시지에서 roomId를 추출
-            String roomId = extractRoomIdFromMessage(message);
-
             // BadWordService를 이용해 메시지 필터링
-            message = badWordService.filterMessage(message);
+            filterEnvelope(envelope);
+            chatMetrics.recordStage(stage, sample);
 
             // 메시지를 ChatMessage 객체로 변환
-            ChatMessage chatMessage = parseMessage(message, roomId);
+            stage = "convert";
+            sample = chatMetrics.start();
+            ChatRoom chatRoom = chatRoomRepository.findById(envelope.getRoomId())
+                    .orElseThrow(() -> new CustomException(ErrorCode.CHAT_ROOM_NOT_FOUND));
+            ChatMessage chatMessage = toChatMessage(envelope, chatRoom);
+            chatMetrics.recordStage(stage, sample);
 
             // 변환된 ChatMessage 객체를 데이터베이스에 저장
+            stage = "save";
+            sample = chatMetrics.start();
             chatMessageRepository.save(chatMessage);
-            message = message.split(":")[1] + ": " + parseJsonMessage(message.split(": ")[1]);
+            chatMetrics.recordStage(stage, sample);
 
             // Team을 조회하여 각 사용자에게 알림 생성
-            Team team = teamRepository.findByChatRoomId(Long.parseLong(roomId))
+            stage = "notify";
+            sample = chatMetrics.start();
+            Team team = teamRepository.findByChatRoomId(envelope.getRoomId())
                     .orElseThrow(() -> new CustomException(ErrorCode.TEAM_NOT_FOUND));
-
-            for (User user : team.getUsers()){
-                if (!user.getUsernick().equals(chatMessage.getUserNickname())){
-                    notificationService.createNotification(user, message, "CHAT", chatMessage.getId());
-                }
-            }
+            notifyTeam(team, envelope, chatMessage);
+            chatMetrics.recordStage(stage, sample);
 
             // 해당 채팅방에 연결된 모든 클라이언트에게 메시지 브로드캐스트
-            broadcastMessage(roomId, chatMessage);
+            stage = "broadcast";
+            broadcastMessage(envelope, chatMessage);
         } catch (Exception e) {
             // 메시지 처리 중 오류가 발생하면 로깅
+            chatMetrics.countStageError(stage);
             logger.log(Level.SEVERE, "Error processing message", e);
             throw new CustomException(ErrorCode.INVALID_MESSAGE_FORMAT); // 기본적인 예외 처리로 변경
         }
     }
 
-
     /**
-     * 메시지에서 roomId를 추출
+     * Kafka 메시지를 poll 단위로 묶어서 처리하는 배치 리스너 메서드
+     * 채팅방, 팀 조회는 배치당 한 번만 수행하고 메시지는 다중 행 INSERT로 저장합니다.
+     * 같은 채팅방의 메시지는 파티션 내 오프셋 순서대로 브로드캐스트됩니다.
      *
-     * @param message 원본 메시지 문자열 (형식: "roomId:userNickname:message")
-     * @return 추출된 roomId
+     * @param records 한 번의 poll로 수신된 레코드 목록
      */
-    private String extractRoomIdFromMessage(String message) {
-        // 메시지를 ':'을 기준으로 분리
-        String[] parts = message.split(":", 3);
+    @KafkaListener(topicPattern = "chatTopic.*", groupId = "chat-room-listener",
+            containerFactory = "batchKafkaListenerContainerFactory",
+            autoStartup = "${chat.kafka.batch-listener.enabled:false}")
+    public void listenBatch(List<ConsumerRecord<String, ChatMessageEnvelope>> records) {
+        logger.info("수신된 배치 크기: " + records.size());
 
-        // 메시지 형식이 올바르지 않으면 예외 발생
-        if (parts.length < 3) {
-            throw new CustomException(ErrorCode.INVALID_MESSAGE_FORMAT);
+        // 채팅방별로 메시지를 묶음 (채팅방 간 순서는 최초 수신 순서를 유지)
+        Map<Long, List<ChatMessageEnvelope>> envelopesByRoom = new LinkedHashMap<>();
+        for (ConsumerRecord<String, ChatMessageEnvelope> record : records) {
+            ChatMessageEnvelope envelope = record.value();
+            if (envelope == null || envelope.getRoomId() == null || envelope.getUserId() == null) {
+                // 역직렬화에 실패했거나 필수 값이 없는 레코드는 건너뜀
+                chatMetrics.countStageError("deserialize");
+                logger.warning("올바르지 않은 메시지를 건너뜁니다. offset: " + record.offset());
+                continue;
+            }
+            chatMetrics.timeStage("filter", () -> filterEnvelope(envelope));
+            envelopesByRoom.computeIfAbsent(envelope.getRoomId(), k -> new ArrayList<>()).add(envelope);
+        }
+        if (envelopesByRoom.isEmpty()) {
+            return;
         }
 
-        // roomId 반환
-        return parts[0];
+        // 배치에 포함된 채팅방, 팀을 한 번씩만 조회
+        Timer.Sample convertSample = chatMetrics.start();
+        Map<Long, ChatRoom> chatRooms = new HashMap<>();
+        chatRoomRepository.findAllById(envelopesByRoom.keySet()).forEach(chatRoom -> chatRooms.put(chatRoom.getId(), chatRoom));
+
+        Map<Long, Team> teams = new HashMap<>();
+        teamRepository.findAllByChatRoomIdIn(envelopesByRoom.keySet()).forEach(team -> teams.put(team.getChatRoom().getId(), team));
+
+        // ChatMessage 엔티티로 변환 후 한 번의 배치로 저장
+        Map<Long, List<ChatMessage>> messagesByRoom = new LinkedHashMap<>();
+        List<ChatMessage> toSave = new ArrayList<>();
+        envelopesByRoom.forEach((roomId, envelopes) -> {
+            ChatRoom chatRoom = chatRooms.get(roomId);
+            if (chatRoom == null) {
+                logger.warning("존재하지 않는 채팅방의 메시지를 건너뜁니다. roomId: " + roomId);
+                return;
+            }
+            List<ChatMessage> roomMessages = new ArrayList<>();
+            for (ChatMessageEnvelope envelope : envelopes) {
+                roomMessages.add(toChatMessage(envelope, chatRoom));
+            }
+            toSave.addAll(roomMessages);
+            messagesByRoom.put(roomId, roomMessages);
+        });
+        chatMetrics.recordStage("convert", convertSample);
+        saveBatch(toSave, messagesByRoom, envelopesByRoom);
+
+        // 채팅방별로 순서대로 알림 생성 및 브로드캐스트
+        messagesByRoom.forEach((roomId, chatMessages) -> {
+            Team team = teams.get(roomId);
+            List<ChatMessageEnvelope> envelopes = envelopesByRoom.get(roomId);
+            for (int i = 0; i < chatMessages.size(); i++) {
+                ChatMessage chatMessage = chatMessages.get(i);
+                ChatMessageEnvelope envelope = envelopes.get(i);
+                try {
+                    if (team != null) {
+                        chatMetrics.timeStage("notify", () -> notifyTeam(team, envelope, chatMessage));
+                    }
+                } catch (Exception e) {
+                    chatMetrics.countStageError("notify");
+                    logger.log(Level.SEVERE, "Error creating notification for message " + chatMessage.getId(), e);
+                }
+                broadcastMessage(envelope, chatMessage);
+            }
+        });
     }
 
     /**
-     * 메시지 문자열을 ChatMessage 객체로 변환
+     * poll 단위로 모은 메시지를 한 번에 저장하고, 실패하면 채팅방별, 메시지별로 나눠서 다시 저장
+     * 한 건의 잘못된 메시지 때문에 같은 poll의 다른 채팅방 메시지까지 유실되지 않도록 합니다.
+     * 끝내 저장하지 못한 메시지는 알림, 브로드캐스트 대상에서 제외합니다.
      *
-     * @param message 원본 메시지 문자열 (형식: "roomId:userNickname:message")
-     * @param roomId  메시지가 속한 채팅방 ID
-     * @return 변환된 ChatMessage 객체
+     * @param toSave          저장할 전체 메시지 목록
+     * @param messagesByRoom  채팅방별 메시지 목록 (저장하지 못한 메시지는 제거됨)
+     * @param envelopesByRoom 채팅방별 봉투 목록 (messagesByRoom과 같은 순서로 유지됨)
      */
-    private ChatMessage parseMessage(String message, String roomId) {
-        // 메시지를 ':'을 기준으로 분리
-        String[] parts = message.split(":", 3);
+    private void saveBatch(List<ChatMessage> toSave,
+                           Map<Long, List<ChatMessage>> messagesByRoom,
+                           Map<Long, List<ChatMessageEnvelope>> envelopesByRoom) {
+        try {
+            chatMetrics.timeStage("save", () -> chatMessageBatchRepository.saveAll(toSave));
+            return;
+        } catch (Exception e) {
+            chatMetrics.countStageError("save");
+            logger.log(Level.WARNING, "배치 저장에 실패해 채팅방별로 다시 저장합니다. 메시지 수: " + toSave.size(), e);
+        }
+
+        Iterator<Map.Entry<Long, List<ChatMessage>>> iterator = messagesByRoom.entrySet().iterator();
+        while (iterator.hasNext()) {
+            Map.Entry<Long, List<ChatMessage>> entry = iterator.next();
+            Long roomId = entry.getKey();
+            List<ChatMessage> roomMessages = entry.getValue();
+            try {
+                chatMetrics.timeStage("save", () -> chatMessageBatchRepository.saveAll(roomMessages));
+                continue;
+            } catch (Exception e) {
+                chatMetrics.countStageError("save");
+                logger.log(Level.WARNING, "채팅방 메시지 저장에 실패해 메시지별로 다시 저장합니다. roomId: " + roomId, e);
+            }
+
+            List<ChatMessageEnvelope> envelopes = envelopesByRoom.get(roomId);
+            List<ChatMessage> savedMessages = new ArrayList<>();
+            List<ChatMessageEnvelope> savedEnvelopes = new ArrayList<>();
+            for (int i = 0; i < roomMessages.size(); i++) {
+                ChatMessage chatMessage = roomMessages.get(i);
+                try {
+                    chatMetrics.timeStage("save", () -> chatMessageBatchRepository.saveAll(List.of(chatMessage)));
+                    savedMessages.add(chatMessage);
+                    savedEnvelopes.add(envelopes.get(i));
+                } catch (Exception e) {
+                    chatMetrics.countStageError("save");
+                    logger.log(Level.SEVERE, "메시지를 저장하지 못해 건너뜁니다. roomId: " + roomId
+                            + ", userId: " + chatMessage.getUser().getId(), e);
+                }
+            }
 
-        // 메시지 형식이 올바르지 않으면 예외 발생
-        if (parts.length < 3) {
-            throw new CustomException(ErrorCode.INVALID_MESSAGE_FORMAT);
+            if (savedMessages.isEmpty()) {
+                iterator.remove();
+            } else {
+                entry.setValue(savedMessages);
+            }
+            envelopesByRoom.put(roomId, savedEnvelopes);
         }
+    }
 
-        // ChatMessage 객체 생성 및 속성 설정
-        ChatMessage chatMessage = new ChatMessage();
-        chatMessage.setMessage(parts[2].trim());  // 메시지 내용 설정
-        chatMessage.setUser(userRepository.findByUsernick(parts[1]));  // 사용자 정보 설정
-        Optional<ChatRoom> chatRoom = chatRoomRepository.findById(Long.parseLong(roomId));
-        if (chatRoom.isEmpty()) {
-            throw new CustomException(ErrorCode.CHAT_ROOM_NOT_FOUND);
+    /**
+     * 봉투의 텍스트 메시지에서 비속어를 필터링
+     *
+     * @param envelope 채팅 메시지 봉투
+     */
+    private void filterEnvelope(ChatMessageEnvelope envelope) {
+        if (envelope.getMessage() != null) {
+            envelope.setMessage(badWordService.filterMessage(envelope.getMessage()));
         }
-        chatMessage.setChatRoom(chatRoom.get());  // 채팅방 정보 설정
-        chatMessage.setUserNickname(parts[1]);  // 사용자 닉네임 설정
+    }
+
+    /**
+     * 채팅 메시지 봉투를 ChatMessage 객체로 변환
+     * 사용자는 ID 참조만 사용하므로 별도의 조회 쿼리가 발생하지 않습니다.
+     *
+     * @param envelope 채팅 메시지 봉투
+     * @param chatRoom 메시지가 속한 채팅방
+     * @return 변환된 ChatMessage 객체
+     */
+    private ChatMessage toChatMessage(ChatMessageEnvelope envelope, ChatRoom chatRoom) {
+        ChatMessage chatMessage = new ChatMessage();
+        chatMessage.setMessage(chatMessageCodec.toStoredMessage(envelope));  // 메시지 내용 설정
+        chatMessage.setUser(userRepository.getReferenceById(envelope.getUserId()));  // 사용자 정보 설정
+        chatMessage.setChatRoom(chatRoom);  // 채팅방 정보 설정
+        chatMessage.setUserNickname(envelope.getNickname());  // 사용자 닉네임 설정
 
         return chatMessage;
     }
 
+    /**
+     * 보낸 사람을 제외한 팀원에게 채팅 알림 생성
+     * 알림 저장과 발행은 팬아웃 워커에서 처리되므로 소비자 스레드는 대기하지 않습니다. (큐가 가득 찬 경우 제외)
+     *
+     * @param team        채팅방에 해당하는 팀
+     * @param envelope    채팅 메시지 봉투
+     * @param chatMessage 저장된 채팅 메시지
+     */
+    private void notifyTeam(Team team, ChatMessageEnvelope envelope, ChatMessage chatMessage) {
+        String notificationMessage = envelope.getNickname() + ": " + chatMessageCodec.toDisplayText(envelope);
+        List<Long> recipientIds = team.getUsers().stream()
+                .map(User::getId)
+                .filter(userId -> !userId.equals(envelope.getUserId()))
+                .toList();
+        if (collapseChatNotifications) {
+            notificationFanoutService.fanoutCollapsed(envelope.getRoomId(), String.valueOf(envelope.getRoomId()),
+                    recipientIds, notificationMessage, "CHAT", chatMessage.getId());
+        } else {
+            notificationFanoutService.fanout(envelope.getRoomId(), recipientIds, notificationMessage, "CHAT", chatMessage.getId());
+        }
+    }
+
     /**
      * 채팅방에 연결된 모든 세션에 메시지를 전송
+     * 전송 후 채팅방별 메시지 수와 웹소켓 수신부터의 전체 지연을 기록합니다.
      *
-     * @param roomId      메시지가 전송될 채팅방 ID
+     * @param envelope    채팅 메시지 봉투 (채팅방 ID, 프레임 수신 시각)
      * @param chatMessage 전송할 메시지 객체
      */
-    private void broadcastMessage(String roomId, ChatMessage chatMessage){
+    private void broadcastMessage(ChatMessageEnvelope envelope, ChatMessage chatMessage){
         // ChatMessage 객체를 ChatMessageDTO로 변환
         ChatMessageDTO chatMessageDto = convertToDto(chatMessage);
 
         // STOMP 주제로 메시지 전송
-        messagingTemplate.convertAndSend("/topic/chat/" + roomId, chatMessageDto);
+        chatMetrics.timeStage("broadcast",
+                () -> chatBroadcastService.broadcast(envelope.getRoomId(), chatMessageDto));
+
+        chatMetrics.countRoomMessage(envelope.getRoomId());
+        chatMetrics.recordEndToEnd(envelope.getTimestamp());
     }
 
     /**
@@ -168,33 +327,4 @@ public class ChatMessageListener {
 
         return dto;
     }
-
-    /**
-     * JSON 문자열에서 메시지 또는 이미지 URL 필드 값 추출
-     *
-     * @param jsonString JSON 문자열 (예: '{"message" : "안녕"}' 또는 '{"imageUrl" : "http://example.com/image.jpg"}')
-     * @return 추출된 메시지 내용 또는 이미지 URL
-     */
-    private String parseJsonMessage(String jsonString) {
-        try {
-            // ObjectMapper 인스턴스 생성
-            ObjectMapper objectMapper = new ObjectMapper();
-
-            // JSON 문자열을 JsonNode로 변환
-            JsonNode jsonNode = objectMapper.readTree(jsonString);
-
-            // "message" 또는 "imageUrl" 필드에서 값 추출
-            if (jsonNode.has("message")) {
-                return jsonNode.get("message").asText();
-            } else if (jsonNode.has("imageUrl")) {
-                return jsonNode.get("imageUrl").asText();
-            } else {
-                throw new CustomException(ErrorCode.INVALID_MESSAGE_FORMAT); // 필드가 없는 경우 사용자 정의 예외 발생
-            }
-        } catch (IOException e) {
-            logger.log(Level.SEVERE, "Error parsing JSON message", e);
-            throw new CustomException(ErrorCode.INVALID_MESSAGE_FORMAT); // JSON 파싱 오류를 사용자 정의 예외로 처리
-        }
-    }
-
 }
@@ -1,101 +1,83 @@
 package com.example.omg_project.domain.chat.kafka;
 
+import com.example.omg_project.domain.chat.dto.ChatMessageEnvelope;
+import io.micrometer.core.instrument.MeterRegistry;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.apache.kafka.clients.admin.AdminClient;
-import org.apache.kafka.clients.admin.NewTopic;
-import org.apache.kafka.common.errors.UnknownTopicOrPartitionException;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.kafka.core.KafkaTemplate;
 import org.springframework.stereotype.Service;
 
-import java.util.Collections;
-import java.util.Properties;
-import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
 
 @Service
 @Slf4j
 @RequiredArgsConstructor
 public class ChatMessageProducer {
 
-    private final KafkaTemplate<String, String> kafkaTemplate;
-    private static final String BOOTSTRAP_SERVERS = "ec2-43-202-189-185.ap-northeast-2.compute.amazonaws.com/:9092"; // Kafka 서버 주소
+    private final KafkaTemplate<String, ChatMessageEnvelope> kafkaTemplate;
+    private final ChatTopicRegistry chatTopicRegistry;
+    private final MeterRegistry meterRegistry;
     private static final String TOPIC_NAME_PREFIX = "chatTopic"; // 기본 토픽 이름
-    private static final int PARTITION_COUNT = 10; // 파티션 수
+    private static final int PARTITION_COUNT = 10; // 파티션 수 (legacy 모드)
+
+    // single: 하나의 토픽에 채팅방 ID를 키로 전송, legacy: 채팅방 번호로 chatTopicN 토픽과 파티션을 직접 계산
+    @Value("${chat.kafka.topic-mode:single}")
+    private String topicMode;
+
+    @Value("${chat.kafka.topic:chatTopic}")
+    private String chatTopic;
 
     /**
-     * 주어진 채팅방 ID와 메시지를 Kafka 토픽으로 전송
+     * 채팅 메시지 봉투를 Kafka 토픽으로 전송
      *
-     * @param roomId  메시지가 전송될 채팅방 ID
-     * @param message 전송할 메시지 내용
+     * @param envelope 전송할 채팅 메시지 봉투
      */
-    public void sendMessage(String roomId, String message) {
+    public void sendMessage(ChatMessageEnvelope envelope) {
+        String roomId = String.valueOf(envelope.getRoomId());
+        if (!"legacy".equalsIgnoreCase(topicMode)) {
+            // 키 기반 파티셔너가 채팅방 ID의 해시로 파티션을 정하므로 같은 채팅방의 순서가 유지됨
+            log.info("채팅방 ID: {}, 토픽: {}, 보낸 사람: {}", roomId, chatTopic, envelope.getNickname());
+            send(chatTopic, null, roomId, envelope);
+            return;
+        }
+
         int roomNumber = Integer.parseInt(roomId);
         int topicSuffix = (roomNumber / PARTITION_COUNT) + 1;
         int partitionNumber = roomNumber % PARTITION_COUNT;
 
         String topicName = TOPIC_NAME_PREFIX + topicSuffix;
 
-        // partitionNumber가 5일 경우 새로운 토픽 생성 확인
+        // partitionNumber가 5일 경우 다음 토픽을 미리 생성 (캐시 확인 후 비동기로 요청하므로 전송을 막지 않음)
         if (partitionNumber == 5) {
-            createTopicIfNotExists(TOPIC_NAME_PREFIX + (topicSuffix + 1), PARTITION_COUNT);
+            chatTopicRegistry.ensureTopicAsync(TOPIC_NAME_PREFIX + (topicSuffix + 1), PARTITION_COUNT);
         }
 
-        log.info("채팅방 ID: {}, 토픽: {}, 메시지: {}", roomId, topicName, message);
+        log.info("채팅방 ID: {}, 토픽: {}, 보낸 사람: {}", roomId, topicName, envelope.getNickname());
 
-        // roomId와 메시지를 결합하여 최종 메시지 전송
-        kafkaTemplate.send(topicName, partitionNumber, roomId, roomId + ":" + message);
+        send(topicName, partitionNumber, roomId, envelope);
     }
 
     /**
-     * 주어진 토픽이 존재하지 않으면 새로 생성
+     * 비동기로 전송하고 완료 시 전송 지연과 성공/실패를 메트릭으로 기록
+     * 전송 스레드는 브로커 응답을 기다리지 않습니다.
      *
-     * @param topicName 생성할 토픽 이름
-     * @param partitionCount 파티션 수
+     * @param topic     토픽 이름
+     * @param partition 파티션 번호 (null이면 키 기반 파티셔너 사용)
+     * @param key       메시지 키 (채팅방 ID)
+     * @param envelope  채팅 메시지 봉투
      */
-    private void createTopicIfNotExists(String topicName, int partitionCount) {
-        Properties properties = new Properties();
-        properties.put("bootstrap.servers", BOOTSTRAP_SERVERS);
-
-        try (AdminClient adminClient = AdminClient.create(properties)) {
-            if (isTopicExists(adminClient, topicName)) {
-                log.info("토픽이 이미 존재합니다: {}", topicName);
-                return;
+    private void send(String topic, Integer partition, String key, ChatMessageEnvelope envelope) {
+        long start = System.nanoTime();
+        kafkaTemplate.send(topic, partition, key, envelope).whenComplete((result, e) -> {
+            String outcome = e == null ? "success" : "failure";
+            meterRegistry.timer("chat.kafka.send", "topic", topic, "result", outcome)
+                    .record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+            if (e != null) {
+                meterRegistry.counter("chat.kafka.send.errors", "topic", topic,
+                        "exception", e.getClass().getSimpleName()).increment();
+                log.error("채팅 메시지 전송 실패 - 토픽: {}, 채팅방 ID: {}", topic, key, e);
             }
-            createNewTopic(adminClient, topicName, partitionCount);
-        } catch (Exception e) {
-            log.error("토픽 확인/생성 에러 발생: {}", e.getMessage(), e);
-        }
-    }
-
-    /**
-     * 토픽 존재 여부 확인
-     */
-    private boolean isTopicExists(AdminClient adminClient, String topicName) {
-        try {
-            adminClient.describeTopics(Collections.singletonList(topicName)).values().get(topicName).get();
-            return true;
-        } catch (ExecutionException e) {
-            if (e.getCause() instanceof UnknownTopicOrPartitionException) {
-                log.warn("토픽이 존재하지 않습니다: {}", topicName);
-            }
-        } catch (InterruptedException e) {
-            Thread.currentThread().interrupt();
-            log.error("AdminClient 에러 발생: {}", e.getMessage());
-        }
-        return false;
-    }
-
-    /**
-     * 새 토픽 생성
-     */
-    private void createNewTopic(AdminClient adminClient, String topicName, int partitionCount) {
-        NewTopic newTopic = new NewTopic(topicName, partitionCount, (short) 1);
-        try {
-            adminClient.createTopics(Collections.singletonList(newTopic)).all().get();
-            log.info("새로운 토픽이 생성되었습니다: {}", topicName);
-        } catch (ExecutionException | InterruptedException e) {
-            log.error("토픽 생성 실패: {}", e.getMessage(), e);
-            Thread.currentThread().interrupt();
-        }
+        });
     }
 }
@@ -0,0 +1,85 @@
+package com.example.omg_project.domain.chat.kafka;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.clients.admin.AdminClient;
+import org.apache.kafka.clients.admin.NewTopic;
+import org.apache.kafka.common.errors.TopicExistsException;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.kafka.core.KafkaAdmin;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Collections;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 존재하는 Kafka 토픽을 캐시하고, 새 토픽을 비동기로 생성하는 레지스트리
+ * 애플리케이션 전체에서 하나의 AdminClient를 재사용하며, 메시지 전송 경로를 블로킹하지 않습니다.
+ */
+@Slf4j
+@Component
+public class ChatTopicRegistry {
+
+    private final AdminClient adminClient;
+    private final Set<String> knownTopics = ConcurrentHashMap.newKeySet();
+    private final Set<String> pendingTopics = ConcurrentHashMap.newKeySet();
+    private final short replicationFactor;
+
+    public ChatTopicRegistry(KafkaAdmin kafkaAdmin,
+                             @Value("${chat.kafka.replication-factor:1}") short replicationFactor) {
+        // 연결은 첫 요청 시점에 비동기로 이루어지므로 브로커가 없어도 생성 자체는 블로킹되지 않음
+        this.adminClient = AdminClient.create(kafkaAdmin.getConfigurationProperties());
+        this.replicationFactor = replicationFactor; // 단일 채팅 토픽(KafkaTopicConfig)과 같은 설정
+    }
+
+    /**
+     * 시작 시 이미 존재하는 토픽 목록을 비동기로 불러와 캐시
+     */
+    @PostConstruct
+    public void loadExistingTopics() {
+        adminClient.listTopics().names().whenComplete((names, e) -> {
+            if (e != null) {
+                log.warn("토픽 목록 조회 실패: {}", e.getMessage());
+                return;
+            }
+            knownTopics.addAll(names);
+            log.info("기존 토픽 {}개를 불러왔습니다.", names.size());
+        });
+    }
+
+    /**
+     * 토픽이 없으면 비동기로 생성 요청 (이미 알려졌거나 생성 중이면 아무것도 하지 않음)
+     *
+     * @param topicName      생성할 토픽 이름
+     * @param partitionCount 파티션 수
+     */
+    public void ensureTopicAsync(String topicName, int partitionCount) {
+        if (knownTopics.contains(topicName) || !pendingTopics.add(topicName)) {
+            return;
+        }
+        NewTopic newTopic = new NewTopic(topicName, partitionCount, replicationFactor);
+        adminClient.createTopics(Collections.singletonList(newTopic)).all().whenComplete((v, e) -> {
+            try {
+                if (e == null) {
+                    knownTopics.add(topicName);
+                    log.info("새로운 토픽이 생성되었습니다: {}", topicName);
+                } else if (e instanceof TopicExistsException || e.getCause() instanceof TopicExistsException) {
+                    knownTopics.add(topicName);
+                } else {
+                    // 다음 요청 때 다시 시도
+                    log.error("토픽 생성 실패: {}", e.getMessage(), e);
+                }
+            } finally {
+                pendingTopics.remove(topicName);
+            }
+        });
+    }
+
+    @PreDestroy
+    public void close() {
+        adminClient.close(Duration.ofSeconds(5));
+    }
+}
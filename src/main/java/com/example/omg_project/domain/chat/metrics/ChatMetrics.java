@@ -0,0 +1,151 @@
+package com.example.omg_project.domain.chat.metrics;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * 채팅 처리 경로의 Micrometer 메트릭
+ * - chat.inbound: STOMP 메시지 수신부터 Kafka 전송 요청까지 (outcome 태그)
+ * - chat.pipeline.stage: 리스너 단계별 처리 시간 (filter, convert, save, notify, broadcast)
+ * - chat.pipeline.errors: 단계별 실패 수
+ * - chat.room.messages: 채팅방별 처리 메시지 수 (채팅방 수가 많으면 일부는 room=other로 집계)
+ * - chat.e2e.latency: 웹소켓 프레임 수신 시각부터 STOMP 브로드캐스트까지
+ * - chat.broadcast.batch.size: 묶음 프레임 하나에 담긴 메시지 수
+ */
+@Component
+public class ChatMetrics {
+
+    private static final String OTHER_ROOM = "other";
+
+    private final MeterRegistry meterRegistry;
+    private final int maxTaggedRooms;
+    private final Timer endToEndTimer;
+    private final ConcurrentMap<String, Timer> stageTimers = new ConcurrentHashMap<>();
+    private final Set<String> taggedRooms = ConcurrentHashMap.newKeySet();
+
+    public ChatMetrics(MeterRegistry meterRegistry,
+                       @Value("${chat.metrics.per-room.max-rooms:1000}") int maxTaggedRooms) {
+        this.meterRegistry = meterRegistry;
+        this.maxTaggedRooms = maxTaggedRooms;
+        this.endToEndTimer = Timer.builder("chat.e2e.latency")
+                .description("웹소켓 프레임 수신부터 브로드캐스트까지의 지연")
+                .publishPercentileHistogram()
+                .maximumExpectedValue(Duration.ofSeconds(30))
+                .register(meterRegistry);
+    }
+
+    /**
+     * 처리 시간 측정 시작
+     */
+    public Timer.Sample start() {
+        return Timer.start(meterRegistry);
+    }
+
+    /**
+     * STOMP 메시지 수신 처리 시간 기록
+     *
+     * @param sample  start()로 시작한 샘플
+     * @param outcome 처리 결과 (accepted, unauthorized, error)
+     */
+    public void recordInbound(Timer.Sample sample, String outcome) {
+        sample.stop(meterRegistry.timer("chat.inbound", "outcome", outcome));
+    }
+
+    /**
+     * 리스너 단계 처리 시간 기록
+     *
+     * @param stage  단계 이름
+     * @param sample start()로 시작한 샘플
+     */
+    public void recordStage(String stage, Timer.Sample sample) {
+        sample.stop(stageTimer(stage));
+    }
+
+    /**
+     * 리스너 단계를 실행하면서 처리 시간 기록
+     *
+     * @param stage    단계 이름
+     * @param supplier 실행할 작업
+     * @return 작업 결과
+     */
+    public <T> T timeStage(String stage, Supplier<T> supplier) {
+        return stageTimer(stage).record(supplier);
+    }
+
+    /**
+     * 리스너 단계를 실행하면서 처리 시간 기록
+     *
+     * @param stage    단계 이름
+     * @param runnable 실행할 작업
+     */
+    public void timeStage(String stage, Runnable runnable) {
+        stageTimer(stage).record(runnable);
+    }
+
+    /**
+     * 단계별 실패 수 증가
+     *
+     * @param stage 실패한 단계 이름
+     */
+    public void countStageError(String stage) {
+        meterRegistry.counter("chat.pipeline.errors", "stage", stage).increment();
+    }
+
+    /**
+     * 채팅방별 처리 메시지 수 증가
+     *
+     * @param roomId 채팅방 ID
+     */
+    public void countRoomMessage(Long roomId) {
+        meterRegistry.counter("chat.room.messages", "room", roomTag(roomId)).increment();
+    }
+
+    /**
+     * 웹소켓 프레임 수신 시각부터 현재까지의 지연 기록
+     *
+     * @param frameTimestamp 봉투에 담긴 프레임 수신 시각 (epoch millis, 0이면 기록하지 않음)
+     */
+    public void recordEndToEnd(long frameTimestamp) {
+        if (frameTimestamp <= 0) {
+            return;
+        }
+        long elapsed = System.currentTimeMillis() - frameTimestamp;
+        endToEndTimer.record(Math.max(elapsed, 0), TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * 묶음 프레임에 담긴 메시지 수 기록
+     *
+     * @param size 메시지 수
+     */
+    public void recordBroadcastBatch(int size) {
+        meterRegistry.summary("chat.broadcast.batch.size").record(size);
+    }
+
+    private Timer stageTimer(String stage) {
+        return stageTimers.computeIfAbsent(stage, s -> Timer.builder("chat.pipeline.stage")
+                .tag("stage", s)
+                .register(meterRegistry));
+    }
+
+    // 태그 카디널리티가 끝없이 늘지 않도록 채팅방 수를 제한
+    private String roomTag(Long roomId) {
+        String room = String.valueOf(roomId);
+        if (taggedRooms.contains(room)) {
+            return room;
+        }
+        if (taggedRooms.size() < maxTaggedRooms && taggedRooms.add(room)) {
+            return room;
+        }
+        return OTHER_ROOM;
+    }
+}
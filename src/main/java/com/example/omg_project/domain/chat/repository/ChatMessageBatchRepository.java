@@ -0,0 +1,73 @@
+package com.example.omg_project.domain.chat.repository;
+
+import com.example.omg_project.domain.chat.entity.ChatMessage;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.util.List;
+
+/**
+ * 채팅 메시지를 다중 행 INSERT로 저장하는 저장소
+ * IDENTITY 전략에서는 JPA 배치 INSERT가 동작하지 않고, JDBC addBatch도 rewriteBatchedStatements 설정 없이는
+ * 행마다 INSERT를 보내므로 VALUES (...), (...) 형태의 문장을 직접 만들어 전송합니다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class ChatMessageBatchRepository {
+
+    private static final String INSERT_PREFIX =
+            "INSERT INTO chat_messages (user_id, chat_room_id, message, created_at, user_nickname) VALUES ";
+    private static final String ROW_PLACEHOLDER = "(?, ?, ?, ?, ?)";
+    private static final int MAX_ROWS_PER_STATEMENT = 500; // 한 문장에 담을 최대 행 수
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * 채팅 메시지 목록을 다중 행 INSERT로 저장하고, 생성된 ID를 각 엔티티에 설정
+     *
+     * @param chatMessages 저장할 채팅 메시지 목록 (저장 순서대로 ID가 부여됨)
+     */
+    @Transactional
+    public void saveAll(List<ChatMessage> chatMessages) {
+        for (int from = 0; from < chatMessages.size(); from += MAX_ROWS_PER_STATEMENT) {
+            insertChunk(chatMessages.subList(from, Math.min(from + MAX_ROWS_PER_STATEMENT, chatMessages.size())));
+        }
+    }
+
+    private void insertChunk(List<ChatMessage> chunk) {
+        StringBuilder sql = new StringBuilder(INSERT_PREFIX);
+        for (int i = 0; i < chunk.size(); i++) {
+            sql.append(i == 0 ? "" : ", ").append(ROW_PLACEHOLDER);
+        }
+
+        jdbcTemplate.execute((ConnectionCallback<Void>) connection -> {
+            try (PreparedStatement ps = connection.prepareStatement(sql.toString(), Statement.RETURN_GENERATED_KEYS)) {
+                int index = 1;
+                for (ChatMessage chatMessage : chunk) {
+                    ps.setLong(index++, chatMessage.getUser().getId());
+                    ps.setLong(index++, chatMessage.getChatRoom().getId());
+                    ps.setString(index++, chatMessage.getMessage());
+                    ps.setTimestamp(index++, Timestamp.valueOf(chatMessage.getCreatedAt()));
+                    ps.setString(index++, chatMessage.getUserNickname());
+                }
+                ps.executeUpdate();
+
+                // 다중 행 INSERT의 생성 키는 행 순서대로 반환됨
+                try (ResultSet keys = ps.getGeneratedKeys()) {
+                    int row = 0;
+                    while (keys.next() && row < chunk.size()) {
+                        chunk.get(row++).setId(keys.getLong(1));
+                    }
+                }
+            }
+            return null;
+        });
+    }
+}
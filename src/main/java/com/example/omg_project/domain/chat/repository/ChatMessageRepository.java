@@ -1,11 +1,24 @@
 package com.example.omg_project.domain.chat.repository;
 
+import com.example.omg_project.domain.chat.dto.ChatMessageView;
 import com.example.omg_project.domain.chat.entity.ChatMessage;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import java.util.List;
 
 public interface ChatMessageRepository extends JpaRepository<ChatMessage, Long> {
     List<ChatMessage> findByChatRoomId(Long chatRoomId);
-}
 
+    // 채팅방의 최신 메시지부터 조회 (chat_room_id, id 인덱스 사용)
+    @Query("SELECT m.id AS id, m.message AS message, m.createdAt AS createdAt, m.userNickname AS userNickname " +
+            "FROM ChatMessage m WHERE m.chatRoom.id = :roomId ORDER BY m.id DESC")
+    List<ChatMessageView> findLatestByChatRoomId(@Param("roomId") Long roomId, Pageable pageable);
+
+    // 커서(before) 이전의 메시지를 최신순으로 조회
+    @Query("SELECT m.id AS id, m.message AS message, m.createdAt AS createdAt, m.userNickname AS userNickname " +
+            "FROM ChatMessage m WHERE m.chatRoom.id = :roomId AND m.id < :before ORDER BY m.id DESC")
+    List<ChatMessageView> findByChatRoomIdBefore(@Param("roomId") Long roomId, @Param("before") Long before, Pageable pageable);
+}
@@ -2,4 +2,6 @@ package com.example.omg_project.domain.chat.service;
 
 public interface BadWordService {
     String filterMessage(String message);
+
+    void refresh();
 }
@@ -0,0 +1,9 @@
+package com.example.omg_project.domain.chat.service;
+
+import com.example.omg_project.domain.chat.dto.ChatMessageDTO;
+
+public interface ChatBroadcastService {
+    void broadcast(Long roomId, ChatMessageDTO message); // 채팅방 구독자 전체에게 전송 (브로커 모드에 따라 다른 서버 포함)
+
+    void deliverLocally(String destination, ChatMessageDTO message); // 이 서버의 브로커로만 전송
+}
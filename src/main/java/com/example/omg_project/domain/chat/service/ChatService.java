@@ -1,6 +1,7 @@
 package com.example.omg_project.domain.chat.service;
 
 import com.example.omg_project.domain.chat.dto.ChatMessageDTO;
+import com.example.omg_project.domain.chat.dto.ChatMessageView;
 import com.example.omg_project.domain.chat.entity.ChatMessage;
 import com.example.omg_project.domain.chat.entity.ChatRoom;
 import com.example.omg_project.domain.user.entity.User;
@@ -10,7 +11,9 @@ import java.util.List;
 public interface ChatService {
     boolean existsById(Long roomId);
     List<ChatMessageDTO> getMessagesByRoomId(Long roomId);
+    List<ChatMessageDTO> getMessageHistory(Long roomId, Long before, int limit);
     ChatMessageDTO convertToDTO(ChatMessage chatMessage);
+    ChatMessageDTO convertToDTO(ChatMessageView chatMessageView);
     void validateUserInChatRoom(Long roomId, User user);
     String findTripName(Long roomId);
 }
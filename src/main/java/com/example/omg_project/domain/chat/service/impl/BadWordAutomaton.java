@@ -0,0 +1,121 @@
+package com.example.omg_project.domain.chat.service.impl;
+
+import java.util.ArrayDeque;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+
+/**
+ * 비속어 목록으로 만든 Aho–Corasick 오토마톤
+ * 메시지를 한 번만 훑으면서 모든 비속어(겹치는 경우 포함)를 '*'로 가립니다.
+ * 생성 후에는 변경되지 않으므로 여러 스레드에서 동시에 사용해도 안전합니다.
+ */
+final class BadWordAutomaton {
+
+    static final BadWordAutomaton EMPTY = new BadWordAutomaton(List.of());
+
+    private static final class Node {
+        private final Map<Character, Node> children = new HashMap<>();
+        private Node fail;
+        private int matchLength; // 이 노드에서 끝나는 가장 긴 비속어의 길이 (실패 링크로 이어진 단어 포함)
+    }
+
+    private final Node root = new Node();
+    private final int wordCount;
+
+    BadWordAutomaton(Collection<String> words) {
+        int count = 0;
+        for (String word : words) {
+            if (word == null || word.isBlank()) {
+                continue;
+            }
+            Node node = root;
+            for (int i = 0; i < word.length(); i++) {
+                node = node.children.computeIfAbsent(word.charAt(i), c -> new Node());
+            }
+            node.matchLength = Math.max(node.matchLength, word.length());
+            count++;
+        }
+        this.wordCount = count;
+        buildFailLinks();
+    }
+
+    /**
+     * BFS로 실패 링크를 연결하고, 실패 링크를 따라 가장 긴 일치 길이를 전파
+     */
+    private void buildFailLinks() {
+        Queue<Node> queue = new ArrayDeque<>();
+        root.fail = root;
+        for (Node child : root.children.values()) {
+            child.fail = root;
+            queue.add(child);
+        }
+        while (!queue.isEmpty()) {
+            Node node = queue.poll();
+            for (Map.Entry<Character, Node> entry : node.children.entrySet()) {
+                char c = entry.getKey();
+                Node child = entry.getValue();
+
+                Node fail = node.fail;
+                while (fail != root && !fail.children.containsKey(c)) {
+                    fail = fail.fail;
+                }
+                Node target = fail.children.get(c);
+                child.fail = (target != null && target != child) ? target : root;
+                child.matchLength = Math.max(child.matchLength, child.fail.matchLength);
+
+                queue.add(child);
+            }
+        }
+    }
+
+    int size() {
+        return wordCount;
+    }
+
+    /**
+     * 메시지에 포함된 모든 비속어를 같은 길이의 '*'로 치환
+     *
+     * @param text 필터링할 메시지
+     * @return 비속어가 가려진 메시지 (일치하는 단어가 없으면 원본 그대로 반환)
+     */
+    String mask(String text) {
+        if (wordCount == 0 || text == null || text.isEmpty()) {
+            return text;
+        }
+
+        // 각 위치에서 끝나는 가장 긴 비속어 길이를 기록
+        int length = text.length();
+        int[] longestEndingAt = null;
+        Node node = root;
+        for (int i = 0; i < length; i++) {
+            char c = text.charAt(i);
+            while (node != root && !node.children.containsKey(c)) {
+                node = node.fail;
+            }
+            node = node.children.getOrDefault(c, root);
+            if (node.matchLength > 0) {
+                if (longestEndingAt == null) {
+                    longestEndingAt = new int[length];
+                }
+                longestEndingAt[i] = node.matchLength;
+            }
+        }
+        if (longestEndingAt == null) {
+            return text;
+        }
+
+        // 뒤에서부터 훑으면서 일치 구간을 '*'로 치환
+        char[] chars = text.toCharArray();
+        int remaining = 0;
+        for (int i = length - 1; i >= 0; i--) {
+            remaining = Math.max(remaining - 1, longestEndingAt[i]);
+            if (remaining > 0) {
+                chars[i] = '*';
+            }
+        }
+        return new String(chars);
+    }
+}
@@ -1,19 +1,30 @@
 package com.example.omg_project.domain.chat.service.impl;
 
+import com.example.omg_project.domain.chat.entity.BadWord;
+import com.example.omg_project.domain.chat.repository.BadWordRepository;
 import com.example.omg_project.domain.chat.service.BadWordService;
 import lombok.RequiredArgsConstructor;
-import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.data.redis.core.SetOperations;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
 import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.stereotype.Service;
 
+import java.util.HashSet;
 import java.util.Set;
 
+@Slf4j
 @Service
 @RequiredArgsConstructor
 public class BadWordServiceImpl implements BadWordService {
 
+    private static final String BAD_WORDS_KEY = "bad_words";
+
     private final RedisTemplate<String, String> redisTemplate;
+    private final BadWordRepository badWordRepository;
+
+    // 메시지마다 Redis를 조회하지 않도록 비속어 사전을 오토마톤으로 만들어 보관
+    private volatile BadWordAutomaton automaton;
 
     /**
      * 주어진 메시지에서 비속어를 필터링하여 반환
@@ -23,18 +34,44 @@ public class BadWordServiceImpl implements BadWordService {
      */
     @Override
     public String filterMessage(String message) {
-        SetOperations<String, String> setOps = redisTemplate.opsForSet();
-        Set<String> badWords = setOps.members("bad_words");  // Redis에서 비속어 Set 조회
-
-        if (badWords != null) {
-            for (String badWord : badWords) {
-                if (message.contains(badWord)) {
-                    String filterWord = "*".repeat(badWord.length());
-                    message = message.replaceAll(badWord, filterWord);
-                }
-            }
+        BadWordAutomaton current = automaton;
+        if (current == null) {
+            current = loadAutomaton();
         }
+        return current.mask(message);  // 필터링된 메시지 반환
+    }
+
+    /**
+     * Redis의 비속어 Set과 BadWord 테이블로 오토마톤을 다시 생성
+     * 애플리케이션 시작 시, 그리고 비속어 변경 알림을 받았을 때 호출됩니다.
+     */
+    @Override
+    @EventListener(ApplicationReadyEvent.class)
+    public void refresh() {
+        loadAutomaton();
+    }
 
-        return message;  // 필터링된 메시지 반환
+    private BadWordAutomaton loadAutomaton() {
+        try {
+            Set<String> badWords = new HashSet<>();
+
+            Set<String> redisWords = redisTemplate.opsForSet().members(BAD_WORDS_KEY);  // Redis에서 비속어 Set 조회
+            if (redisWords != null) {
+                badWords.addAll(redisWords);
+            }
+            for (BadWord badWord : badWordRepository.findAll()) {
+                badWords.add(badWord.getWord());
+            }
+
+            BadWordAutomaton loaded = new BadWordAutomaton(badWords);
+            automaton = loaded;
+            log.info("비속어 사전을 갱신했습니다. 단어 수: {}", loaded.size());
+            return loaded;
+        } catch (Exception e) {
+            // 갱신에 실패하면 기존 사전을 계속 사용
+            log.error("비속어 사전 갱신 실패: {}", e.getMessage(), e);
+            BadWordAutomaton current = automaton;
+            return current != null ? current : BadWordAutomaton.EMPTY;
+        }
     }
 }
@@ -0,0 +1,72 @@
+package com.example.omg_project.domain.chat.service.impl;
+
+import com.example.omg_project.domain.chat.dto.ChatBroadcastMessage;
+import com.example.omg_project.domain.chat.dto.ChatMessageDTO;
+import com.example.omg_project.domain.chat.service.ChatBroadcastService;
+import com.example.omg_project.domain.chat.service.redis.ChatBroadcastSubscriber;
+import com.example.omg_project.domain.chat.websocket.ChatBroadcastCoalescer;
+import com.example.omg_project.global.exception.CustomException;
+import com.example.omg_project.global.exception.ErrorCode;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.stereotype.Service;
+
+/**
+ * 채팅 메시지를 채팅방 구독자에게 전송하는 서비스
+ * - simple, relay 모드: 스프링 메시징 템플릿으로 바로 전송 (relay 모드에서는 외부 브로커가 모든 서버로 전달)
+ * - redis 모드: Redis 채널에 발행하고, 모든 서버의 ChatBroadcastSubscriber가 각자의 로컬 브로커로 전달
+ * 묶음 전송을 켜면 메시지 단위 프레임 대신 "{목적지}/batch"로 ChatBroadcastCoalescer가 모은 메시지 배열만 전달됩니다.
+ */
+@Service
+@RequiredArgsConstructor
+public class ChatBroadcastServiceImpl implements ChatBroadcastService {
+
+    private final SimpMessagingTemplate messagingTemplate;
+    private final StringRedisTemplate stringRedisTemplate;
+    private final ObjectMapper objectMapper;
+    private final ChatBroadcastCoalescer chatBroadcastCoalescer;
+
+    @Value("${chat.broker.mode:simple}")
+    private String brokerMode;
+
+    /**
+     * 채팅방 구독자 전체에게 메시지 전송
+     *
+     * @param roomId  채팅방 ID
+     * @param message 전송할 채팅 메시지
+     */
+    @Override
+    public void broadcast(Long roomId, ChatMessageDTO message) {
+        String destination = "/topic/chat/" + roomId;
+        if (!"redis".equalsIgnoreCase(brokerMode)) {
+            deliverLocally(destination, message);
+            return;
+        }
+        try {
+            String payload = objectMapper.writeValueAsString(new ChatBroadcastMessage(destination, message));
+            stringRedisTemplate.convertAndSend(ChatBroadcastSubscriber.CHANNEL, payload);
+        } catch (JsonProcessingException e) {
+            throw new CustomException(ErrorCode.JSON_PROCESSING_ERROR);
+        }
+    }
+
+    /**
+     * 이 서버의 브로커에 연결된 구독자에게만 전송
+     * 묶음 전송이 켜져 있으면 클라이언트는 /batch만 구독하므로 메시지 단위 프레임은 보내지 않습니다.
+     *
+     * @param destination STOMP 목적지
+     * @param message     전송할 채팅 메시지
+     */
+    @Override
+    public void deliverLocally(String destination, ChatMessageDTO message) {
+        if (chatBroadcastCoalescer.isEnabled()) {
+            chatBroadcastCoalescer.add(destination, message); // 묶음 프레임 (/batch 구독 클라이언트)
+        } else {
+            messagingTemplate.convertAndSend(destination, message); // 메시지 단위 프레임
+        }
+    }
+}
@@ -1,6 +1,7 @@
 package com.example.omg_project.domain.chat.service.impl;
 
 import com.example.omg_project.domain.chat.dto.ChatMessageDTO;
+import com.example.omg_project.domain.chat.dto.ChatMessageView;
 import com.example.omg_project.domain.chat.entity.ChatMessage;
 import com.example.omg_project.domain.chat.entity.ChatRoom;
 import com.example.omg_project.domain.chat.repository.ChatMessageRepository;
@@ -14,8 +15,11 @@ import com.example.omg_project.global.exception.CustomException;
 import com.example.omg_project.global.exception.ErrorCode;
 import com.example.omg_project.global.jwt.util.JwtTokenizer;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 import java.util.stream.Collectors;
 
@@ -30,6 +34,8 @@ public class ChatServiceImpl implements ChatService {
     private final ChatRoomRepository chatRoomRepository;
     private final TeamService teamService;
 
+    private static final int MAX_HISTORY_LIMIT = 100; // 한 번에 조회할 수 있는 최대 메시지 수
+
     /**
      * 채팅방의 존재 여부를 확인하는 메서드
      *
@@ -62,6 +68,36 @@ public class ChatServiceImpl implements ChatService {
                 .collect(Collectors.toList());
     }
 
+    /**
+     * 커서 기반으로 채팅방의 메시지 기록을 조회하는 메서드
+     * before가 없으면 최신 메시지부터, 있으면 해당 ID 이전의 메시지를 limit 개수만큼 조회합니다.
+     *
+     * @param roomId 채팅방 ID
+     * @param before 이 ID보다 작은 메시지만 조회 (null이면 최신 메시지부터)
+     * @param limit  조회할 메시지 수
+     * @return 오래된 순으로 정렬된 메시지 목록
+     */
+    @Override
+    public List<ChatMessageDTO> getMessageHistory(Long roomId, Long before, int limit) {
+        // 채팅방이 존재하는지 확인
+        if (!existsById(roomId)) {
+            throw new CustomException(ErrorCode.CHAT_ROOM_NOT_FOUND);
+        }
+        PageRequest pageRequest = PageRequest.of(0, Math.max(1, Math.min(limit, MAX_HISTORY_LIMIT)));
+
+        // 최신순으로 조회한 뒤 화면 표시 순서(오래된 순)로 뒤집음
+        List<ChatMessageView> views = (before == null)
+                ? chatMessageRepository.findLatestByChatRoomId(roomId, pageRequest)
+                : chatMessageRepository.findByChatRoomIdBefore(roomId, before, pageRequest);
+
+        List<ChatMessageDTO> messages = new ArrayList<>(views.size());
+        for (ChatMessageView view : views) {
+            messages.add(convertToDTO(view));
+        }
+        Collections.reverse(messages);
+        return messages;
+    }
+
     /**
      * ChatMessage 엔티티를 ChatMessageDTO로 변환하는 메서드
      *
@@ -79,6 +115,22 @@ public class ChatServiceImpl implements ChatService {
         return dto;
     }
 
+    /**
+     * 채팅 기록 조회용 프로젝션을 ChatMessageDTO로 변환하는 메서드
+     *
+     * @param chatMessageView 채팅 메시지 프로젝션
+     * @return 변환된 ChatMessageDTO 객체
+     */
+    @Override
+    public ChatMessageDTO convertToDTO(ChatMessageView chatMessageView) {
+        ChatMessageDTO dto = new ChatMessageDTO();
+        dto.setId(chatMessageView.getId());
+        dto.setUserNickname(chatMessageView.getUserNickname());
+        dto.setMessage(chatMessageView.getMessage());
+        dto.setCreatedAt(chatMessageView.getCreatedAt().toString());
+        return dto;
+    }
+
     /**
      * 사용자와 채팅방의 접근 권한을 검증하는 메서드
      *
@@ -0,0 +1,32 @@
+package com.example.omg_project.domain.chat.service.redis;
+
+import com.example.omg_project.domain.chat.service.BadWordService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.stereotype.Component;
+
+/**
+ * 비속어 사전 변경 알림을 수신하는 Redis 리스너
+ * - bad_words Set이나 BadWord 테이블을 수정한 뒤 "bad_words_updated" 채널에 발행하면
+ *   모든 서버가 로컬 비속어 사전을 다시 생성합니다.
+ */
+@Component
+@RequiredArgsConstructor
+public class BadWordSubscriber implements MessageListener {
+
+    public static final String CHANNEL = "bad_words_updated";
+
+    private final BadWordService badWordService;
+
+    /**
+     * 변경 알림을 받으면 비속어 사전을 갱신
+     *
+     * @param message Redis에서 수신한 메시지 객체 (내용은 사용하지 않음)
+     * @param pattern Redis 채널 패턴 (사용되지 않음)
+     */
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        badWordService.refresh();
+    }
+}
@@ -0,0 +1,43 @@
+package com.example.omg_project.domain.chat.service.redis;
+
+import com.example.omg_project.domain.chat.dto.ChatBroadcastMessage;
+import com.example.omg_project.domain.chat.service.ChatBroadcastService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+
+/**
+ * 다른 서버가 발행한 채팅 브로드캐스트를 수신하는 Redis 리스너 (chat.broker.mode=redis)
+ * - 수신한 메시지를 이 서버의 로컬 브로커로 전달하므로, 어느 서버에 연결된 클라이언트든 같은 메시지를 받습니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ChatBroadcastSubscriber implements MessageListener {
+
+    public static final String CHANNEL = "chat_broadcast";
+
+    private final ChatBroadcastService chatBroadcastService;
+    private final ObjectMapper objectMapper;
+
+    /**
+     * 브로드캐스트 메시지를 로컬 구독자에게 전달
+     *
+     * @param message Redis에서 수신한 메시지 객체
+     * @param pattern Redis 채널 패턴 (사용되지 않음)
+     */
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        try {
+            ChatBroadcastMessage broadcast = objectMapper.readValue(message.getBody(), ChatBroadcastMessage.class);
+            chatBroadcastService.deliverLocally(broadcast.getDestination(), broadcast.getMessage());
+        } catch (IOException e) {
+            log.error("채팅 브로드캐스트 메시지를 읽을 수 없습니다.", e);
+        }
+    }
+}
@@ -0,0 +1,101 @@
+package com.example.omg_project.domain.chat.websocket;
+
+import com.example.omg_project.domain.chat.dto.ChatMessageDTO;
+import com.example.omg_project.domain.chat.metrics.ChatMetrics;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 채팅방 메시지를 짧은 시간 동안 모아서 하나의 프레임(메시지 배열)으로 전송하는 컴포넌트 (chat.broadcast.coalesce.enabled=true)
+ * - 묶음 프레임은 "{채팅방 목적지}/batch" 로 전송되며, 이를 구독한 클라이언트만 받습니다.
+ * - 채팅방별로 도착 순서대로 쌓고 단일 스레드에서 예약 순서대로 보내므로 메시지 순서가 유지됩니다.
+ */
+@Slf4j
+@Component
+public class ChatBroadcastCoalescer {
+
+    public static final String BATCH_SUFFIX = "/batch";
+
+    private static final long MIN_WINDOW_MS = 1;
+    private static final long MAX_WINDOW_MS = 20;
+
+    private final SimpMessagingTemplate messagingTemplate;
+    private final ChatMetrics chatMetrics;
+    private final boolean enabled;
+    private final long windowMs;
+    private final ConcurrentMap<String, List<ChatMessageDTO>> pending = new ConcurrentHashMap<>();
+    private final ScheduledExecutorService scheduler =
+            Executors.newSingleThreadScheduledExecutor(new CustomizableThreadFactory("chat-coalesce-"));
+
+    public ChatBroadcastCoalescer(SimpMessagingTemplate messagingTemplate,
+                                  ChatMetrics chatMetrics,
+                                  @Value("${chat.broadcast.coalesce.enabled:false}") boolean enabled,
+                                  @Value("${chat.broadcast.coalesce.window-ms:5}") long windowMs) {
+        this.messagingTemplate = messagingTemplate;
+        this.chatMetrics = chatMetrics;
+        this.enabled = enabled;
+        this.windowMs = Math.min(Math.max(windowMs, MIN_WINDOW_MS), MAX_WINDOW_MS); // 1~20ms로 제한
+    }
+
+    /**
+     * 묶음 전송 사용 여부 (클라이언트가 /batch 목적지를 구독할지 결정하는 데 사용)
+     */
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * 메시지를 채팅방별 대기 목록에 추가
+     * 채팅방의 첫 메시지가 들어올 때 묶음 전송을 예약하고, 이후 메시지는 같은 묶음에 합류합니다.
+     *
+     * @param destination 채팅방 목적지 (예: /topic/chat/1)
+     * @param message     전송할 채팅 메시지
+     */
+    public void add(String destination, ChatMessageDTO message) {
+        if (!enabled) {
+            return;
+        }
+        pending.compute(destination, (dest, batch) -> {
+            if (batch == null) {
+                batch = new ArrayList<>();
+                scheduler.schedule(() -> flush(dest), windowMs, TimeUnit.MILLISECONDS);
+            }
+            batch.add(message);
+            return batch;
+        });
+    }
+
+    private void flush(String destination) {
+        List<ChatMessageDTO> batch = pending.remove(destination);
+        if (batch == null || batch.isEmpty()) {
+            return;
+        }
+        try {
+            messagingTemplate.convertAndSend(destination + BATCH_SUFFIX, batch);
+            chatMetrics.recordBroadcastBatch(batch.size());
+        } catch (Exception e) {
+            log.error("채팅 묶음 전송 실패 - 목적지: {}, 메시지 수: {}", destination, batch.size(), e);
+        }
+    }
+
+    /**
+     * 애플리케이션 종료 시 대기 중인 메시지를 모두 전송한 뒤 스케줄러 종료
+     */
+    @PreDestroy
+    public void shutdown() {
+        scheduler.shutdownNow();
+        pending.keySet().forEach(this::flush);
+    }
+}
@@ -37,10 +37,11 @@ public class CustomHandshakeInterceptor extends HttpSessionHandshakeInterceptor
             }
         }
 
-        // URL 경로에서 roomId 추출
-        String path = request.getURI().getPath();
-        String roomId = path.split("/")[2];
-        attributes.put("roomId", roomId);  // 추출한 roomId를 핸드쉐이크 속성에 추가
+        // URL 경로에서 roomId 추출 (네이티브 /stomp 엔드포인트처럼 경로에 값이 없으면 생략)
+        String[] segments = request.getURI().getPath().split("/");
+        if (segments.length > 2) {
+            attributes.put("roomId", segments[2]);  // 추출한 roomId를 핸드쉐이크 속성에 추가
+        }
 
         return true;  // 핸드쉐이크 성공
     }
@@ -0,0 +1,64 @@
+package com.example.omg_project.domain.chat.websocket;
+
+import com.example.omg_project.domain.user.service.LoginUserService;
+import com.example.omg_project.global.jwt.service.RedisBlackTokenService;
+import com.example.omg_project.global.jwt.util.JwtTokenizer;
+import com.example.omg_project.global.security.LoginUser;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtException;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.server.ServerHttpRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.web.socket.WebSocketHandler;
+import org.springframework.web.socket.server.support.DefaultHandshakeHandler;
+
+import java.security.Principal;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * 핸드쉐이크 시 CustomHandshakeInterceptor가 담아 둔 JWT로 웹소켓 세션의 사용자를 결정하는 핸들러
+ * 결정된 사용자는 convertAndSendToUser로 보내는 사용자 목적지의 라우팅 기준이 되며,
+ * 채팅 메시지 처리 시 토큰 파싱과 사용자 조회 없이 그대로 사용됩니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class JwtHandshakeHandler extends DefaultHandshakeHandler {
+
+    private final JwtTokenizer jwtTokenizer;
+    private final LoginUserService loginUserService;
+    private final RedisBlackTokenService redisBlackTokenService;
+
+    /**
+     * 핸드쉐이크 속성의 JWT에서 사용자를 추출하는 메서드입니다.
+     * 닉네임은 이 시점에 한 번만 조회하고, 토큰 만료 시각과 함께 세션 사용자에 보관합니다.
+     * 토큰이 없거나 유효하지 않거나 블랙리스트에 있으면, 또는 토큰의 사용자를 찾을 수 없으면
+     * 서블릿 요청의 사용자(없으면 익명)를 그대로 사용합니다.
+     *
+     * @param request    WebSocket 요청 객체
+     * @param wsHandler  WebSocket 핸들러
+     * @param attributes 핸드쉐이크 속성
+     * @return Principal 세션 사용자
+     */
+    @Override
+    protected Principal determineUser(ServerHttpRequest request, WebSocketHandler wsHandler, Map<String, Object> attributes) {
+        Object token = attributes.get("jwtToken");
+        if (token instanceof String jwtToken && !redisBlackTokenService.isTokenBlacklisted(jwtToken)) {
+            try {
+                Claims claims = jwtTokenizer.parseAccessToken(jwtToken);
+                Long userId = claims.get("userId", Long.class);
+                Optional<LoginUser> loginUser = loginUserService.findLoginUser(userId);
+                if (loginUser.isPresent()) {
+                    return new StompUserPrincipal(userId, claims.getSubject(), loginUser.get().getUsernick(),
+                            claims.getExpiration().getTime());
+                }
+                log.debug("웹소켓 핸드쉐이크 토큰의 사용자를 찾을 수 없습니다: {}", userId);
+            } catch (JwtException | IllegalArgumentException e) {
+                log.debug("웹소켓 핸드쉐이크 토큰이 유효하지 않습니다: {}", e.getMessage());
+            }
+        }
+        return super.determineUser(request, wsHandler, attributes);
+    }
+}
@@ -0,0 +1,28 @@
+package com.example.omg_project.domain.chat.websocket;
+
+import java.security.Principal;
+
+/**
+ * 웹소켓 세션에 연결된 사용자 정보
+ * 핸드쉐이크 시 한 번만 만들어지며, 메시지마다 토큰 파싱이나 DB 조회 없이 사용자 정보를 제공합니다.
+ * 사용자 목적지(/user/...) 라우팅에 사용되도록 getName()은 사용자 ID를 반환합니다.
+ *
+ * @param userId    사용자 ID
+ * @param username  사용자 아이디 (토큰의 subject)
+ * @param nickname  사용자 닉네임 (핸드쉐이크 시점 기준)
+ * @param expiresAt 액세스 토큰 만료 시각 (epoch millis)
+ */
+public record StompUserPrincipal(Long userId, String username, String nickname, long expiresAt) implements Principal {
+
+    @Override
+    public String getName() {
+        return String.valueOf(userId);
+    }
+
+    /**
+     * 핸드쉐이크에 사용한 액세스 토큰이 만료되었는지 확인 (캐시된 exp 클레임과 현재 시각만 비교)
+     */
+    public boolean isExpired() {
+        return System.currentTimeMillis() >= expiresAt;
+    }
+}
@@ -1,31 +1,43 @@
 package com.example.omg_project.domain.chat.websocket;
 
+import com.example.omg_project.domain.chat.kafka.ChatMessageCodec;
 import com.example.omg_project.domain.chat.kafka.ChatMessageProducer;
-import com.example.omg_project.domain.user.service.UserService;
-import com.example.omg_project.domain.user.entity.User;
-import com.example.omg_project.global.jwt.util.JwtTokenizer;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 import org.springframework.web.socket.CloseStatus;
 import org.springframework.web.socket.TextMessage;
 import org.springframework.web.socket.WebSocketSession;
+import org.springframework.web.socket.handler.ConcurrentWebSocketSessionDecorator;
 import org.springframework.web.socket.handler.TextWebSocketHandler;
 
 import java.util.*;
 import java.util.concurrent.ConcurrentHashMap;
 
+/**
+ * 채팅방 단위 raw 웹소켓 핸들러
+ * 현재 채팅은 STOMP(/ws, /stomp)로 동작하며 이 핸들러는 WebSocketConfig에 등록되어 있지 않습니다.
+ */
 @Component
 @RequiredArgsConstructor
 @Slf4j
 public class WebSocketHandler extends TextWebSocketHandler {
 
-    // 웹소켓으로 접속한 세션들을 팀별로 관리하기 위한 저장소
-    private static final Map<String, Set<WebSocketSession>> roomSessions = new ConcurrentHashMap<>();
+    // 웹소켓으로 접속한 세션들을 팀별로 관리하기 위한 저장소 (채팅방 ID → 세션 ID → 전송 버퍼가 있는 세션)
+    // 마지막 세션이 나가면 채팅방 항목도 원자적으로 제거됨
+    private static final Map<String, Map<String, WebSocketSession>> roomSessions = new ConcurrentHashMap<>();
+
+    // 세션별 전송 한 건의 최대 대기 시간 (ms), 초과하면 느린 클라이언트로 보고 연결 종료 (STOMP 전송 설정과 공유)
+    @Value("${websocket.transport.send-time-limit-ms:10000}")
+    private int sendTimeLimit;
+
+    // 세션별 전송 버퍼 최대 크기 (bytes), 초과하면 연결 종료 (STOMP 전송 설정과 공유)
+    @Value("${websocket.transport.send-buffer-size-limit:524288}")
+    private int bufferSizeLimit;
 
     private final ChatMessageProducer chatMessageProducer;
-    private final UserService userService;
-    private final JwtTokenizer jwtTokenizer;
+    private final ChatMessageCodec chatMessageCodec;
 
     /**
      * 웹소켓 연결이 성립된 후 호출됩니다.
@@ -36,8 +48,14 @@ public class WebSocketHandler extends TextWebSocketHandler {
     @Override
     public void afterConnectionEstablished(WebSocketSession session) throws Exception {
         String roomId = (String) session.getAttributes().get("roomId");
-        // 방별로 세션을 관리하여 동기화된 세션 집합을 생성
-        roomSessions.computeIfAbsent(roomId, k -> Collections.synchronizedSet(new HashSet<>())).add(session);
+        // 느린 클라이언트가 채팅방 전체 전송을 막지 않도록 세션마다 제한된 전송 버퍼를 둠
+        WebSocketSession decorated = new ConcurrentWebSocketSessionDecorator(session, sendTimeLimit, bufferSizeLimit);
+        // 방별로 세션을 관리 (락 없는 동시성 맵 사용)
+        roomSessions.compute(roomId, (k, sessions) -> {
+            Map<String, WebSocketSession> roomMap = sessions != null ? sessions : new ConcurrentHashMap<>();
+            roomMap.put(session.getId(), decorated);
+            return roomMap;
+        });
         log.info("세션 연결 성공 :: " + session.getId() + " 채팅방 ID: " + roomId);
     }
 
@@ -51,10 +69,11 @@ public class WebSocketHandler extends TextWebSocketHandler {
     @Override
     public void afterConnectionClosed(WebSocketSession session, CloseStatus status) throws Exception {
         String roomId = (String) session.getAttributes().get("roomId");
-        Set<WebSocketSession> sessions = roomSessions.get(roomId);
-        if (sessions != null) {
-            sessions.remove(session);  // 세션을 방에서 제거
-        }
+        // 세션을 방에서 제거하고, 마지막 세션이었으면 채팅방 항목도 함께 제거
+        roomSessions.computeIfPresent(roomId, (k, sessions) -> {
+            sessions.remove(session.getId());
+            return sessions.isEmpty() ? null : sessions;
+        });
     }
 
     /**
@@ -68,31 +87,27 @@ public class WebSocketHandler extends TextWebSocketHandler {
     protected void handleTextMessage(WebSocketSession session, TextMessage message) throws Exception {
         String payload = message.getPayload();
 
-        // JWT 토큰에서 사용자 정보를 추출
-        String token = (String) session.getAttributes().get("jwtToken");
-        String username = "Unknown user";
-        String nickname = "Unknown user";
+        String roomId = (String) session.getAttributes().get("roomId");
 
-        if (token != null && !jwtTokenizer.isAccessTokenExpired(token)) {
-            username = jwtTokenizer.getUsernameFromToken(token);
-            Optional<User> userOptional = userService.findByUsername(username);
-            User user = userOptional.orElseThrow();
-            nickname = user.getUsernick();
+        // 핸드쉐이크 시 만들어진 세션 사용자 사용 (메시지마다 토큰 파싱, DB 조회 없음)
+        if (!(session.getPrincipal() instanceof StompUserPrincipal principal) || principal.isExpired()) {
+            log.warn("인증되지 않은 세션의 메시지를 무시합니다. 세션 ID: {}", session.getId());
+            return;
         }
 
-        String roomId = (String) session.getAttributes().get("roomId");
-
         // 채팅 메시지를 Kafka를 통해 전송
-        chatMessageProducer.sendMessage(roomId, nickname + ": " + payload);
+        chatMessageProducer.sendMessage(
+                chatMessageCodec.toEnvelope(Long.parseLong(roomId), principal.userId(), principal.nickname(), payload));
     }
 
     /**
      * 지정된 채팅방 ID에 대한 모든 웹소켓 세션을 반환합니다.
      *
      * @param roomId 채팅방 ID
-     * @return 웹소켓 세션 집합
+     * @return 전송 버퍼가 적용된 웹소켓 세션 목록 (없으면 빈 목록)
      */
-    public static Set<WebSocketSession> getSessions(String roomId) {
-        return roomSessions.get(roomId);
+    public static Collection<WebSocketSession> getSessions(String roomId) {
+        Map<String, WebSocketSession> sessions = roomSessions.get(roomId);
+        return sessions != null ? Collections.unmodifiableCollection(sessions.values()) : Collections.emptyList();
     }
 }
@@ -2,10 +2,8 @@ package com.example.omg_project.domain.joinpost.controller;
 
 import com.example.omg_project.domain.joinpost.dto.JoinPostDto;
 import com.example.omg_project.domain.joinpost.service.JoinPostService;
-import com.example.omg_project.domain.user.entity.User;
-import com.example.omg_project.domain.user.service.UserService;
-import com.example.omg_project.global.jwt.util.JwtTokenizer;
-import jakarta.servlet.http.HttpServletRequest;
+import com.example.omg_project.global.security.CurrentUser;
+import com.example.omg_project.global.security.LoginUser;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Controller;
 import org.springframework.ui.Model;
@@ -18,21 +16,14 @@ import org.springframework.web.bind.annotation.RequestMapping;
 @RequestMapping("/joinPost")
 public class JoinPostController {
     private final JoinPostService joinPostService;
-    private final UserService userService;
-    private final JwtTokenizer jwtTokenizer;
 
     /**
      * 게시글 작성 화면으로 이동
      */
     @GetMapping("/createPost")
-    public String createPost(HttpServletRequest request, Model model) {
-        // 로그인한 사용자 정보 가져오기
-        String accessToken = jwtTokenizer.getAccessTokenFromCookies(request);
-        if(accessToken != null){
-            String username = jwtTokenizer.getUsernameFromToken(accessToken);
-            User user = userService.findByUsername(username).orElse(null);
-            model.addAttribute("user", user);
-        }
+    public String createPost(@CurrentUser LoginUser user, Model model) {
+        // 로그인한 사용자 정보
+        model.addAttribute("user", user);
         return "join/createpost";
     }
 
@@ -40,14 +31,9 @@ public class JoinPostController {
      * 목록 화면으로 이동
      */
     @GetMapping("/")
-    public String listPosts(HttpServletRequest request, Model model) {
-        // 로그인한 사용자 정보 가져오기
-        String accessToken = jwtTokenizer.getAccessTokenFromCookies(request);
-        if(accessToken != null){
-            String username = jwtTokenizer.getUsernameFromToken(accessToken);
-            User user = userService.findByUsername(username).orElse(null);
-            model.addAttribute("user", user);
-        }
+    public String listPosts(@CurrentUser LoginUser user, Model model) {
+        // 로그인한 사용자 정보
+        model.addAttribute("user", user);
         return "join/listposts";
     }
 
@@ -55,24 +41,19 @@ public class JoinPostController {
      * 게시글 상세 화면으로 이동
      */
     @GetMapping("/{postId}")
-    public String viewPost(@PathVariable Long postId, HttpServletRequest request, Model model) {
+    public String viewPost(@PathVariable Long postId, @CurrentUser LoginUser user, Model model) {
         // 게시글 가져오기
         JoinPostDto.Response post = joinPostService.findJoinPostById(postId);
         model.addAttribute("post", post);
 
-        // 로그인한 사용자 정보 가져오기
-        String accessToken = jwtTokenizer.getAccessTokenFromCookies(request);
-        if(accessToken != null){
-            String username = jwtTokenizer.getUsernameFromToken(accessToken);
-            User user = userService.findByUsername(username).orElse(null);
-            model.addAttribute("user", user);
+        // 로그인한 사용자 정보
+        model.addAttribute("user", user);
 
-            // 조회수 증가 (본인 게시글이 아닌 경우에만)
-            if (user != null && !user.getId().equals(post.getUserId())) {
-                joinPostService.incrementViews(postId);
-                post = joinPostService.findJoinPostById(postId);
-                model.addAttribute("post", post);
-            }
+        // 조회수 증가 (본인 게시글이 아닌 경우에만)
+        if (user != null && !user.getId().equals(post.getUserId())) {
+            joinPostService.incrementViews(postId);
+            post = joinPostService.findJoinPostById(postId);
+            model.addAttribute("post", post);
         }
 
         return "join/viewpost";
@@ -82,15 +63,10 @@ public class JoinPostController {
      * 게시글 수정 화면으로 이동
      */
     @GetMapping("/{postId}/updatePost")
-    public String updatePost(@PathVariable Long postId, HttpServletRequest request, Model model) {
+    public String updatePost(@PathVariable Long postId, @CurrentUser LoginUser user, Model model) {
         model.addAttribute("post", joinPostService.findJoinPostById(postId));
-        // 로그인한 사용자 정보 가져오기
-        String accessToken = jwtTokenizer.getAccessTokenFromCookies(request);
-        if(accessToken != null){
-            String username = jwtTokenizer.getUsernameFromToken(accessToken);
-            User user = userService.findByUsername(username).orElse(null);
-            model.addAttribute("user", user);
-        }
+        // 로그인한 사용자 정보
+        model.addAttribute("user", user);
         return "join/updatepost";
     }
 
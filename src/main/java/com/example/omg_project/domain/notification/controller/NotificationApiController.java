@@ -1,6 +1,9 @@
 package com.example.omg_project.domain.notification.controller;
 
+import com.example.omg_project.domain.notification.entity.Notification;
 import com.example.omg_project.domain.notification.service.NotificationService;
+import com.example.omg_project.global.security.CurrentUser;
+import com.example.omg_project.global.security.LoginUser;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
@@ -9,6 +12,8 @@ import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
+import java.util.List;
+
 /**
  * 알림 관련 API를 제공하는 컨트롤러 클래스.
  * 클라이언트로부터 알림 관련 요청을 처리하고 적절한 응답을 반환합니다.
@@ -20,6 +25,26 @@ public class NotificationApiController {
 
     private final NotificationService notificationService;
 
+    /**
+     * 로그인한 사용자의 유형별 읽지 않은 알림을 커서 기반으로 조회하는 API 엔드포인트.
+     *
+     * @param type    조회할 알림 유형 (e.g., "CHAT", "JOINPOSTCOMMENT")
+     * @param before  이 ID보다 이전 알림만 조회 (없으면 최신 알림부터)
+     * @param limit   조회할 최대 알림 수
+     * @param user    현재 로그인한 사용자
+     * @return 읽지 않은 알림 목록 (최신순)
+     */
+    @GetMapping
+    public ResponseEntity<List<Notification>> getNotifications(@RequestParam("type") String type,
+                                                               @RequestParam(value = "before", required = false) Long before,
+                                                               @RequestParam(value = "limit", defaultValue = "20") int limit,
+                                                               @CurrentUser LoginUser user) {
+        if (user == null) {
+            return new ResponseEntity<>(HttpStatus.UNAUTHORIZED);
+        }
+        return ResponseEntity.ok(notificationService.getNotifications(user.getId(), type, before, limit));
+    }
+
     /**
      * 사용자의 읽지 않은 알림 개수를 조회하는 API 엔드포인트.
      *
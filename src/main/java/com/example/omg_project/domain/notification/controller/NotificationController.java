@@ -2,10 +2,8 @@ package com.example.omg_project.domain.notification.controller;
 
 import com.example.omg_project.domain.notification.entity.Notification;
 import com.example.omg_project.domain.notification.service.NotificationService;
-import com.example.omg_project.domain.user.entity.User;
-import com.example.omg_project.domain.user.service.UserService;
-import com.example.omg_project.global.jwt.util.JwtTokenizer;
-import jakarta.servlet.http.HttpServletRequest;
+import com.example.omg_project.global.security.CurrentUser;
+import com.example.omg_project.global.security.LoginUser;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Controller;
@@ -24,28 +22,21 @@ import java.util.List;
 public class NotificationController {
 
     private final NotificationService notificationService;
-    private final JwtTokenizer jwtTokenizer;
-    private final UserService userService;
 
     /**
      * 사용자의 알림 페이지를 반환하는 메서드.
-     * - JWT 토큰에서 사용자 정보를 추출하고, 해당 사용자의 알림을 조회합니다.
+     * - 현재 로그인한 사용자의 알림을 조회합니다.
      * - 조회된 알림을 모델에 추가하여 뷰 페이지에 전달합니다.
      *
-     * @param request HTTP 요청 객체, 쿠키에서 JWT 토큰을 추출하는 데 사용됩니다.
-     * @param model   Spring MVC의 모델 객체, 뷰에 전달할 데이터를 추가하는 데 사용됩니다.
+     * @param user  현재 로그인한 사용자
+     * @param model Spring MVC의 모델 객체, 뷰에 전달할 데이터를 추가하는 데 사용됩니다.
      * @return 알림 페이지의 뷰 이름을 반환합니다.
      */
     @GetMapping
-    public String getNotificationsPage(HttpServletRequest request, Model model) {
-        // 사용자 정보 추출
-        String accessToken = jwtTokenizer.getAccessTokenFromCookies(request);
-        String username = jwtTokenizer.getUsernameFromToken(accessToken);
-        User user = userService.findByUsername(username).orElse(null);
-
+    public String getNotificationsPage(@CurrentUser LoginUser user, Model model) {
         if (user != null) {
             // 사용자가 존재하는 경우, 해당 사용자의 알림을 조회
-            List<Notification> notifications = notificationService.getUserNotifications(user);
+            List<Notification> notifications = notificationService.getUserNotifications(user.getId());
 
             model.addAttribute("user", user);
             model.addAttribute("notifications", notifications);
@@ -72,17 +63,13 @@ public class NotificationController {
      * - 주어진 타입에 해당하는 모든 알림을 읽음 상태로 변경합니다.
      *
      * @param type 읽음 처리할 알림 타입 (e.g., "CHAT", "JOINPOSTCOMMENT")
-     * @param request HTTP 요청 객체, JWT 토큰에서 사용자 정보를 추출하는 데 사용됩니다.
+     * @param user 현재 로그인한 사용자
      * @return 상태 코드 200 OK와 함께 성공 응답을 반환합니다.
      */
     @PostMapping("/readAll")
-    public ResponseEntity<Void> markAllAsReadByType(@RequestParam("type") String type, HttpServletRequest request) {
-        String accessToken = jwtTokenizer.getAccessTokenFromCookies(request);
-        if(accessToken != null){
-            String username = jwtTokenizer.getUsernameFromToken(accessToken);
-            User user = userService.findByUsername(username).orElse(null);
-            Long userId = user.getId();
-            notificationService.markAllAsReadByType(userId, type);
+    public ResponseEntity<Void> markAllAsReadByType(@RequestParam("type") String type, @CurrentUser LoginUser user) {
+        if (user != null) {
+            notificationService.markAllAsReadByType(user.getId(), type);
         }
         return ResponseEntity.ok().build();
     }
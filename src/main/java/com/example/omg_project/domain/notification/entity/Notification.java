@@ -9,7 +9,12 @@ import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
 
 @Entity
-@Table(name = "notification")
+@Table(name = "notification",
+        uniqueConstraints = @UniqueConstraint(name = "uk_notification_collapse_key", columnNames = "collapse_key"),
+        indexes = {
+                @Index(name = "idx_notification_user_read_type_id", columnList = "user_id, is_read, notification_type, id"),
+                @Index(name = "idx_notification_read_created_at", columnList = "is_read, created_at") // 보관 주기 정리용
+        })
 @Getter
 @Setter
 public class Notification {
@@ -29,5 +34,13 @@ public class Notification {
 
     // 댓글이나 채팅 등과의 관계 매핑 (optional)
     private Long relatedEntityId; // 댓글, 대댓글, 채팅 등의 ID
+
+    // 묶음 알림 식별 키 (예: CHAT:{userId}:{roomId}), 읽음 처리되면 null로 비워 다음 알림이 새 행으로 생성됨
+    @Column(name = "collapse_key", length = 100)
+    private String collapseKey;
+
+    // 묶음 알림에 누적된 읽지 않은 건수 (일반 알림은 항상 1)
+    @Column(name = "unread_count", nullable = false, columnDefinition = "INT NOT NULL DEFAULT 1")
+    private int unreadCount = 1;
 }
 
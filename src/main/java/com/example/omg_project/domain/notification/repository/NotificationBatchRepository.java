@@ -0,0 +1,123 @@
+package com.example.omg_project.domain.notification.repository;
+
+import com.example.omg_project.domain.notification.entity.Notification;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.util.List;
+
+/**
+ * 알림을 다중 행 INSERT로 저장하는 저장소
+ * 한 건의 이벤트로 여러 사용자에게 알림을 만들 때 사용자 수만큼 INSERT가 발생하지 않도록 합니다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class NotificationBatchRepository {
+
+    private static final String INSERT_PREFIX =
+            "INSERT INTO notification (user_id, message, is_read, created_at, notification_type, related_entity_id) VALUES ";
+    private static final String ROW_PLACEHOLDER = "(?, ?, ?, ?, ?, ?)";
+    private static final String COLLAPSE_INSERT_PREFIX =
+            "INSERT INTO notification (user_id, message, is_read, created_at, notification_type, related_entity_id, collapse_key, unread_count) VALUES ";
+    private static final String COLLAPSE_ROW_PLACEHOLDER = "(?, ?, false, ?, ?, ?, ?, 1)";
+    // 같은 묶음 키의 읽지 않은 알림이 있으면 새 행 대신 건수와 마지막 메시지만 갱신
+    private static final String COLLAPSE_UPDATE_SUFFIX =
+            " ON DUPLICATE KEY UPDATE unread_count = unread_count + 1, message = VALUES(message),"
+                    + " created_at = VALUES(created_at), related_entity_id = VALUES(related_entity_id)";
+    private static final int MAX_ROWS_PER_STATEMENT = 500; // 한 문장에 담을 최대 행 수
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * 알림 목록을 다중 행 INSERT로 저장하고, 생성된 ID를 각 엔티티에 설정
+     *
+     * @param notifications 저장할 알림 목록
+     */
+    @Transactional
+    public void saveAll(List<Notification> notifications) {
+        for (int from = 0; from < notifications.size(); from += MAX_ROWS_PER_STATEMENT) {
+            insertChunk(notifications.subList(from, Math.min(from + MAX_ROWS_PER_STATEMENT, notifications.size())));
+        }
+    }
+
+    /**
+     * 묶음 알림을 다중 행 UPSERT로 저장
+     * 같은 collapse_key의 행이 이미 있으면 읽지 않은 건수를 1 증가시키고 마지막 메시지로 갱신합니다.
+     * UPSERT에서는 생성 키를 신뢰할 수 없으므로 저장 후 collapse_key로 다시 조회해야 합니다.
+     *
+     * @param notifications collapseKey가 설정된 알림 목록
+     */
+    @Transactional
+    public void upsertCollapsed(List<Notification> notifications) {
+        for (int from = 0; from < notifications.size(); from += MAX_ROWS_PER_STATEMENT) {
+            upsertChunk(notifications.subList(from, Math.min(from + MAX_ROWS_PER_STATEMENT, notifications.size())));
+        }
+    }
+
+    private void upsertChunk(List<Notification> chunk) {
+        StringBuilder sql = new StringBuilder(COLLAPSE_INSERT_PREFIX);
+        for (int i = 0; i < chunk.size(); i++) {
+            sql.append(i == 0 ? "" : ", ").append(COLLAPSE_ROW_PLACEHOLDER);
+        }
+        sql.append(COLLAPSE_UPDATE_SUFFIX);
+
+        jdbcTemplate.update(sql.toString(), ps -> {
+            int index = 1;
+            for (Notification notification : chunk) {
+                ps.setLong(index++, notification.getUserId());
+                ps.setString(index++, notification.getMessage());
+                ps.setTimestamp(index++, Timestamp.valueOf(notification.getCreatedAt()));
+                ps.setString(index++, notification.getNotificationType());
+                if (notification.getRelatedEntityId() != null) {
+                    ps.setLong(index++, notification.getRelatedEntityId());
+                } else {
+                    ps.setNull(index++, Types.BIGINT);
+                }
+                ps.setString(index++, notification.getCollapseKey());
+            }
+        });
+    }
+
+    private void insertChunk(List<Notification> chunk) {
+        StringBuilder sql = new StringBuilder(INSERT_PREFIX);
+        for (int i = 0; i < chunk.size(); i++) {
+            sql.append(i == 0 ? "" : ", ").append(ROW_PLACEHOLDER);
+        }
+
+        jdbcTemplate.execute((ConnectionCallback<Void>) connection -> {
+            try (PreparedStatement ps = connection.prepareStatement(sql.toString(), Statement.RETURN_GENERATED_KEYS)) {
+                int index = 1;
+                for (Notification notification : chunk) {
+                    ps.setLong(index++, notification.getUserId());
+                    ps.setString(index++, notification.getMessage());
+                    ps.setBoolean(index++, notification.isRead());
+                    ps.setTimestamp(index++, Timestamp.valueOf(notification.getCreatedAt()));
+                    ps.setString(index++, notification.getNotificationType());
+                    if (notification.getRelatedEntityId() != null) {
+                        ps.setLong(index++, notification.getRelatedEntityId());
+                    } else {
+                        ps.setNull(index++, Types.BIGINT);
+                    }
+                }
+                ps.executeUpdate();
+
+                // 다중 행 INSERT의 생성 키는 행 순서대로 반환됨
+                try (ResultSet keys = ps.getGeneratedKeys()) {
+                    int row = 0;
+                    while (keys.next() && row < chunk.size()) {
+                        chunk.get(row++).setId(keys.getLong(1));
+                    }
+                }
+            }
+            return null;
+        });
+    }
+}
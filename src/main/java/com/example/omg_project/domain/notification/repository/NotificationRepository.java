@@ -2,20 +2,50 @@ package com.example.omg_project.domain.notification.repository;
 
 import com.example.omg_project.domain.notification.entity.Notification;
 import com.example.omg_project.domain.user.entity.User;
-import io.lettuce.core.dynamic.annotation.Param;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 
 @Repository
 public interface NotificationRepository extends JpaRepository<Notification, Long> {
     List<Notification> findByUserIdAndIsReadFalse(Long userId);
 
+    List<Notification> findByUserIdAndIsReadFalseOrderByIdDesc(Long userId, Pageable pageable);
+
     @Query("SELECT n FROM Notification n WHERE n.userId = :userId AND n.isRead = false AND n.notificationType = :type")
     List<Notification> findUnreadNotificationsByUserIdAndType(@Param("userId") Long userId, @Param("type") String type);
 
-    @Query("SELECT COUNT(n) FROM Notification n WHERE n.userId = :userId AND n.isRead = false")
+    // 유형별 읽지 않은 알림의 첫 페이지 (최신순)
+    @Query("SELECT n FROM Notification n WHERE n.userId = :userId AND n.isRead = false AND n.notificationType = :type ORDER BY n.id DESC")
+    List<Notification> findLatestUnreadByUserIdAndType(@Param("userId") Long userId, @Param("type") String type, Pageable pageable);
+
+    // 유형별 읽지 않은 알림 중 before보다 이전 페이지 (최신순)
+    @Query("SELECT n FROM Notification n WHERE n.userId = :userId AND n.isRead = false AND n.notificationType = :type AND n.id < :before ORDER BY n.id DESC")
+    List<Notification> findUnreadByUserIdAndTypeBefore(@Param("userId") Long userId, @Param("type") String type, @Param("before") Long before, Pageable pageable);
+
+    // 묶음 알림은 한 행에 여러 건이 누적되므로 행 수 대신 누적 건수를 합산
+    @Query("SELECT COALESCE(SUM(n.unreadCount), 0) FROM Notification n WHERE n.userId = :userId AND n.isRead = false")
     long countUnreadNotifications(@Param("userId") Long userId);
+
+    // 유형별 읽지 않은 알림 수 (알림 카운터 적재 및 보정용), [notificationType, count]
+    @Query("SELECT n.notificationType, COALESCE(SUM(n.unreadCount), 0) FROM Notification n WHERE n.userId = :userId AND n.isRead = false GROUP BY n.notificationType")
+    List<Object[]> sumUnreadCountGroupByType(@Param("userId") Long userId);
+
+    List<Notification> findByCollapseKeyIn(Collection<String> collapseKeys);
+
+    // 읽지 않은 알림 한 건만 읽음 처리 (이미 읽었으면 0 반환), 묶음 키도 함께 비움
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE Notification n SET n.isRead = true, n.collapseKey = null WHERE n.id = :id AND n.isRead = false")
+    int markAsReadById(@Param("id") Long id);
+
+    // 읽음 처리와 함께 묶음 키를 비워 이후 알림이 새 묶음으로 시작되도록 함
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE Notification n SET n.isRead = true, n.collapseKey = null WHERE n.userId = :userId AND n.isRead = false AND n.notificationType = :type")
+    int markAllAsReadByUserIdAndType(@Param("userId") Long userId, @Param("type") String type);
 }
@@ -0,0 +1,96 @@
+package com.example.omg_project.domain.notification.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * 읽은 지 오래된 알림을 보관 테이블로 옮기거나 삭제하는 저장소
+ * 한 번에 정해진 건수만 기본 키 목록으로 처리하여 긴 잠금과 대용량 트랜잭션을 피합니다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class NotificationRetentionRepository {
+
+    // (created_at, id) 커서 이후의 만료된 읽은 알림을 오래된 순으로 조회
+    private static final String SELECT_EXPIRED_SQL =
+            "SELECT id, created_at FROM notification"
+                    + " WHERE is_read = true AND created_at < ?"
+                    + " AND (created_at > ? OR (created_at = ? AND id > ?))"
+                    + " ORDER BY created_at, id LIMIT ?";
+    private static final String ARCHIVE_SQL_PREFIX =
+            "INSERT IGNORE INTO notification_archive"
+                    + " (id, user_id, message, is_read, created_at, notification_type, related_entity_id, unread_count, archived_at)"
+                    + " SELECT id, user_id, message, is_read, created_at, notification_type, related_entity_id, unread_count, ?"
+                    + " FROM notification WHERE id IN ";
+    private static final String DELETE_SQL_PREFIX = "DELETE FROM notification WHERE id IN ";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * 만료된 읽은 알림 한 묶음을 조회
+     *
+     * @param cutoff         이 시각 이전에 생성된 알림만 대상
+     * @param afterCreatedAt 커서 - 이전 묶음의 마지막 생성 시각
+     * @param afterId        커서 - 이전 묶음의 마지막 알림 ID
+     * @param limit          조회할 최대 건수
+     * @return 만료된 알림의 (ID, 생성 시각) 목록
+     */
+    public List<ExpiredNotification> findExpiredRead(LocalDateTime cutoff, LocalDateTime afterCreatedAt, long afterId, int limit) {
+        Timestamp after = Timestamp.valueOf(afterCreatedAt);
+        return jdbcTemplate.query(SELECT_EXPIRED_SQL,
+                (rs, rowNum) -> new ExpiredNotification(rs.getLong("id"), rs.getTimestamp("created_at").toLocalDateTime()),
+                Timestamp.valueOf(cutoff), after, after, afterId, limit);
+    }
+
+    /**
+     * 알림을 보관 테이블로 복사한 뒤 원본에서 삭제
+     *
+     * @param ids 옮길 알림 ID 목록
+     * @return 삭제된 알림 수
+     */
+    @Transactional
+    public int archive(List<Long> ids) {
+        if (ids.isEmpty()) {
+            return 0;
+        }
+        String in = placeholders(ids.size());
+        Object[] archiveArgs = new Object[ids.size() + 1];
+        archiveArgs[0] = Timestamp.valueOf(LocalDateTime.now());
+        for (int i = 0; i < ids.size(); i++) {
+            archiveArgs[i + 1] = ids.get(i);
+        }
+        jdbcTemplate.update(ARCHIVE_SQL_PREFIX + in, archiveArgs);
+        return jdbcTemplate.update(DELETE_SQL_PREFIX + in, ids.toArray());
+    }
+
+    /**
+     * 알림을 보관하지 않고 삭제
+     *
+     * @param ids 삭제할 알림 ID 목록
+     * @return 삭제된 알림 수
+     */
+    @Transactional
+    public int delete(List<Long> ids) {
+        if (ids.isEmpty()) {
+            return 0;
+        }
+        return jdbcTemplate.update(DELETE_SQL_PREFIX + placeholders(ids.size()), ids.toArray());
+    }
+
+    private String placeholders(int count) {
+        return "(" + String.join(", ", Collections.nCopies(count, "?")) + ")";
+    }
+
+    /**
+     * 정리 대상 알림의 키 (커서로도 사용)
+     */
+    public record ExpiredNotification(Long id, LocalDateTime createdAt) {
+    }
+}
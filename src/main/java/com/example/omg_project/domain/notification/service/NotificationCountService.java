@@ -0,0 +1,17 @@
+package com.example.omg_project.domain.notification.service;
+
+import java.util.Collection;
+
+public interface NotificationCountService {
+    long getUnreadCount(Long userId);
+
+    void increment(Long userId, String notificationType);
+
+    void incrementAll(Collection<Long> userIds, String notificationType);
+
+    void decrement(Long userId, String notificationType, long amount);
+
+    void reset(Long userId, String notificationType);
+
+    void reconcile();
+}
@@ -0,0 +1,9 @@
+package com.example.omg_project.domain.notification.service;
+
+import java.util.Collection;
+
+public interface NotificationFanoutService {
+    void fanout(Long shardKey, Collection<Long> userIds, String message, String notificationType, Long relatedEntityId);
+
+    void fanoutCollapsed(Long shardKey, String collapseScope, Collection<Long> userIds, String message, String notificationType, Long relatedEntityId);
+}
@@ -0,0 +1,5 @@
+package com.example.omg_project.domain.notification.service;
+
+public interface NotificationRetentionService {
+    int purgeExpiredReadNotifications();
+}
@@ -4,12 +4,19 @@ import com.example.omg_project.domain.notification.entity.Notification;
 import com.example.omg_project.domain.user.entity.User;
 import com.fasterxml.jackson.core.JsonProcessingException;
 
+import java.util.Collection;
 import java.util.List;
 
 public interface NotificationService {
     void createNotification(User user, String message, String notificationType, Long relatedEntityId) throws JsonProcessingException;
 
-    List<Notification> getUserNotifications(User user);
+    void createNotifications(Collection<Long> userIds, String message, String notificationType, Long relatedEntityId);
+
+    void createCollapsedNotifications(Collection<Long> userIds, String collapseScope, String message, String notificationType, Long relatedEntityId);
+
+    List<Notification> getUserNotifications(Long userId);
+
+    List<Notification> getNotifications(Long userId, String type, Long before, int limit);
 
     void markAsRead(Long id);
 
@@ -0,0 +1,219 @@
+package com.example.omg_project.domain.notification.service.impl;
+
+import com.example.omg_project.domain.notification.repository.NotificationRepository;
+import com.example.omg_project.domain.notification.service.NotificationCountService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.connection.ReturnType;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisOperations;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.data.redis.core.SessionCallback;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 사용자별·알림 유형별 읽지 않은 알림 수를 Redis 해시(notification:unread:{userId})로 관리하는 서비스.
+ * - 해시가 없으면 DB에서 한 번 집계해 채우고, 이후에는 알림 생성·읽음 처리 시 원자적으로 갱신합니다.
+ * - 증감은 해시가 있을 때만 적용되므로, 아직 적재되지 않은 사용자의 카운터가 부분 값으로 생성되지 않습니다.
+ * - 주기적으로 DB 값과 비교해 어긋난 카운터를 바로잡습니다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class NotificationCountServiceImpl implements NotificationCountService {
+
+    private static final String KEY_PREFIX = "notification:unread:";
+    private static final String LOADED_FIELD = "loaded"; // 알림이 없는 사용자도 적재 여부를 알 수 있도록 두는 표시 필드
+    private static final Duration TTL = Duration.ofDays(1);
+
+    // 해시가 있을 때만 증감하고, 0 미만으로 내려가지 않도록 보정
+    private static final String ADD_IF_LOADED_SCRIPT =
+            "if redis.call('EXISTS', KEYS[1]) == 0 then return -1 end "
+                    + "local count = redis.call('HINCRBY', KEYS[1], ARGV[1], ARGV[2]) "
+                    + "if count < 0 then redis.call('HSET', KEYS[1], ARGV[1], 0) count = 0 end "
+                    + "return count";
+    private static final RedisScript<Long> ADD_IF_LOADED = new DefaultRedisScript<>(ADD_IF_LOADED_SCRIPT, Long.class);
+    private static final byte[] ADD_IF_LOADED_BYTES = ADD_IF_LOADED_SCRIPT.getBytes(StandardCharsets.UTF_8);
+
+    private static final RedisScript<Long> RESET_IF_LOADED = new DefaultRedisScript<>(
+            "if redis.call('EXISTS', KEYS[1]) == 0 then return -1 end "
+                    + "redis.call('HSET', KEYS[1], ARGV[1], 0) "
+                    + "return 0", Long.class);
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final NotificationRepository notificationRepository;
+
+    /**
+     * 사용자의 읽지 않은 알림 수를 Redis에서 조회
+     * 카운터가 없으면 DB에서 집계해 적재한 뒤 반환합니다.
+     *
+     * @param userId 사용자의 ID
+     * @return 읽지 않은 알림의 개수
+     */
+    @Override
+    public long getUnreadCount(Long userId) {
+        try {
+            Map<Object, Object> counters = redisTemplate.opsForHash().entries(key(userId));
+            if (!counters.isEmpty()) {
+                return sum(counters);
+            }
+            return load(userId);
+        } catch (DataAccessException e) {
+            log.warn("Redis 알림 카운터 조회 실패, DB에서 집계합니다. userId: {}", userId, e);
+            return notificationRepository.countUnreadNotifications(userId);
+        }
+    }
+
+    /**
+     * 알림 한 건 생성 시 해당 유형의 카운터를 1 증가
+     */
+    @Override
+    public void increment(Long userId, String notificationType) {
+        add(userId, notificationType, 1);
+    }
+
+    /**
+     * 여러 사용자의 카운터를 파이프라인 한 번으로 1씩 증가
+     */
+    @Override
+    public void incrementAll(Collection<Long> userIds, String notificationType) {
+        if (userIds.isEmpty()) {
+            return;
+        }
+        byte[] field = notificationType.getBytes(StandardCharsets.UTF_8);
+        byte[] one = "1".getBytes(StandardCharsets.UTF_8);
+        try {
+            redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+                for (Long userId : userIds) {
+                    connection.scriptingCommands().eval(ADD_IF_LOADED_BYTES, ReturnType.INTEGER, 1,
+                            key(userId).getBytes(StandardCharsets.UTF_8), field, one);
+                }
+                return null;
+            });
+        } catch (DataAccessException e) {
+            log.warn("Redis 알림 카운터 일괄 증가 실패, 정기 보정에서 복구됩니다. type: {}", notificationType, e);
+        }
+    }
+
+    /**
+     * 알림 읽음 처리 시 해당 유형의 카운터를 감소
+     *
+     * @param amount 감소시킬 건수 (묶음 알림은 누적 건수)
+     */
+    @Override
+    public void decrement(Long userId, String notificationType, long amount) {
+        add(userId, notificationType, -amount);
+    }
+
+    /**
+     * 유형별 모두 읽음 처리 시 해당 유형의 카운터를 0으로 초기화
+     */
+    @Override
+    public void reset(Long userId, String notificationType) {
+        try {
+            redisTemplate.execute(RESET_IF_LOADED, List.of(key(userId)), notificationType);
+        } catch (DataAccessException e) {
+            log.warn("Redis 알림 카운터 초기화 실패, 정기 보정에서 복구됩니다. userId: {}", userId, e);
+        }
+    }
+
+    /**
+     * Redis에 적재된 카운터를 DB 값으로 다시 계산해 어긋남을 바로잡음
+     */
+    @Override
+    @Scheduled(fixedDelayString = "${notification.unread-count.reconcile-interval-ms:600000}",
+            initialDelayString = "${notification.unread-count.reconcile-interval-ms:600000}")
+    public void reconcile() {
+        List<Long> userIds = new ArrayList<>();
+        ScanOptions options = ScanOptions.scanOptions().match(KEY_PREFIX + "*").count(500).build();
+        try (Cursor<String> cursor = redisTemplate.scan(options)) {
+            while (cursor.hasNext()) {
+                String key = cursor.next();
+                try {
+                    userIds.add(Long.parseLong(key.substring(KEY_PREFIX.length())));
+                } catch (NumberFormatException e) {
+                    log.warn("알 수 없는 알림 카운터 키를 건너뜁니다. key: {}", key);
+                }
+            }
+        } catch (DataAccessException e) {
+            log.warn("알림 카운터 보정을 위한 키 조회 실패", e);
+            return;
+        }
+
+        for (Long userId : userIds) {
+            try {
+                load(userId);
+            } catch (DataAccessException e) {
+                log.warn("알림 카운터 보정 실패 userId: {}", userId, e);
+            }
+        }
+        log.info("알림 카운터 보정 완료 - 사용자 수: {}", userIds.size());
+    }
+
+    private void add(Long userId, String notificationType, long delta) {
+        try {
+            redisTemplate.execute(ADD_IF_LOADED, List.of(key(userId)), notificationType, String.valueOf(delta));
+        } catch (DataAccessException e) {
+            log.warn("Redis 알림 카운터 갱신 실패, 정기 보정에서 복구됩니다. userId: {}", userId, e);
+        }
+    }
+
+    /**
+     * DB에서 유형별 읽지 않은 알림 수를 집계해 Redis 해시를 통째로 교체
+     *
+     * @param userId 사용자의 ID
+     * @return 읽지 않은 알림의 전체 개수
+     */
+    private long load(Long userId) {
+        Map<String, String> counters = new HashMap<>();
+        counters.put(LOADED_FIELD, "1");
+        long total = 0;
+        for (Object[] row : notificationRepository.sumUnreadCountGroupByType(userId)) {
+            long count = ((Number) row[1]).longValue();
+            counters.put((String) row[0], String.valueOf(count));
+            total += count;
+        }
+
+        String key = key(userId);
+        redisTemplate.execute(new SessionCallback<List<Object>>() {
+            @Override
+            @SuppressWarnings("unchecked")
+            public List<Object> execute(RedisOperations operations) throws DataAccessException {
+                operations.multi();
+                operations.delete(key);
+                operations.opsForHash().putAll(key, counters);
+                operations.expire(key, TTL);
+                return operations.exec();
+            }
+        });
+        return total;
+    }
+
+    private long sum(Map<Object, Object> counters) {
+        long total = 0;
+        for (Map.Entry<Object, Object> entry : counters.entrySet()) {
+            if (!LOADED_FIELD.equals(entry.getKey())) {
+                total += Long.parseLong((String) entry.getValue());
+            }
+        }
+        return total;
+    }
+
+    private String key(Long userId) {
+        return KEY_PREFIX + userId;
+    }
+}
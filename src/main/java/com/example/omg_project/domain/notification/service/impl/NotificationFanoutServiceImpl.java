@@ -0,0 +1,155 @@
+package com.example.omg_project.domain.notification.service.impl;
+
+import com.example.omg_project.domain.notification.service.NotificationFanoutService;
+import com.example.omg_project.domain.notification.service.NotificationService;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Service;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.RejectedExecutionHandler;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.stream.IntStream;
+
+/**
+ * 하나의 이벤트(채팅 메시지 등)를 여러 사용자의 알림으로 펼치는 서비스.
+ * - Kafka 소비자 스레드를 막지 않도록 별도의 워커에서 다중 행 INSERT와 Redis 파이프라인 발행을 수행합니다.
+ * - 같은 shardKey(채팅방 ID 등)의 작업은 항상 같은 워커에서 순서대로 처리됩니다.
+ * - 워커 큐가 가득 차면 호출 스레드가 대기하여 상류(Kafka 소비)에 배압이 걸립니다.
+ * - Kafka 오프셋은 작업 제출 시점에 이미 커밋되므로, 실패한 작업은 워커에서 정해진 횟수만큼 재시도하고
+ *   끝내 실패하면 notification.fanout.errors 카운터로 집계합니다.
+ */
+@Slf4j
+@Service
+public class NotificationFanoutServiceImpl implements NotificationFanoutService {
+
+    private final NotificationService notificationService;
+    private final MeterRegistry meterRegistry;
+    private final List<ThreadPoolExecutor> workers;
+    private final int maxAttempts;
+    private final long retryBackoffMillis;
+
+    public NotificationFanoutServiceImpl(NotificationService notificationService,
+                                         MeterRegistry meterRegistry,
+                                         @Value("${notification.fanout.workers:2}") int workerCount,
+                                         @Value("${notification.fanout.queue-capacity:1000}") int queueCapacity,
+                                         @Value("${notification.fanout.max-attempts:3}") int maxAttempts,
+                                         @Value("${notification.fanout.retry-backoff-ms:200}") long retryBackoffMillis) {
+        this.notificationService = notificationService;
+        this.meterRegistry = meterRegistry;
+        this.maxAttempts = Math.max(1, maxAttempts);
+        this.retryBackoffMillis = retryBackoffMillis;
+
+        CustomizableThreadFactory threadFactory = new CustomizableThreadFactory("notification-fanout-");
+        RejectedExecutionHandler blockWhenFull = (task, executor) -> {
+            if (executor.isShutdown()) {
+                throw new RejectedExecutionException("Notification fan-out worker is shut down");
+            }
+            try {
+                executor.getQueue().put(task); // 큐에 자리가 날 때까지 호출 스레드 대기
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new RejectedExecutionException("Interrupted while waiting for fan-out queue", e);
+            }
+        };
+
+        this.workers = IntStream.range(0, Math.max(1, workerCount))
+                .mapToObj(i -> new ThreadPoolExecutor(1, 1, 0L, TimeUnit.MILLISECONDS,
+                        new ArrayBlockingQueue<>(queueCapacity), threadFactory, blockWhenFull))
+                .toList();
+    }
+
+    /**
+     * 여러 사용자에게 같은 알림을 비동기로 생성
+     *
+     * @param shardKey         순서를 보장할 단위 (예: 채팅방 ID)
+     * @param userIds          알림을 받을 사용자 ID 목록
+     * @param message          알림 메시지
+     * @param notificationType 알림 유형
+     * @param relatedEntityId  관련된 엔티티 ID
+     */
+    @Override
+    public void fanout(Long shardKey, Collection<Long> userIds, String message, String notificationType, Long relatedEntityId) {
+        submit(shardKey, userIds, notificationType, relatedEntityId,
+                recipients -> notificationService.createNotifications(recipients, message, notificationType, relatedEntityId));
+    }
+
+    /**
+     * 여러 사용자의 묶음 알림을 비동기로 생성하거나 갱신
+     *
+     * @param shardKey         순서를 보장할 단위 (예: 채팅방 ID)
+     * @param collapseScope    묶음 범위 (예: 채팅방 ID)
+     * @param userIds          알림을 받을 사용자 ID 목록
+     * @param message          마지막 알림 메시지
+     * @param notificationType 알림 유형
+     * @param relatedEntityId  마지막으로 관련된 엔티티 ID
+     */
+    @Override
+    public void fanoutCollapsed(Long shardKey, String collapseScope, Collection<Long> userIds, String message, String notificationType, Long relatedEntityId) {
+        submit(shardKey, userIds, notificationType, relatedEntityId,
+                recipients -> notificationService.createCollapsedNotifications(recipients, collapseScope, message, notificationType, relatedEntityId));
+    }
+
+    private void submit(Long shardKey, Collection<Long> userIds, String notificationType, Long relatedEntityId, Consumer<List<Long>> task) {
+        if (userIds.isEmpty()) {
+            return;
+        }
+        List<Long> recipients = List.copyOf(userIds);
+        ThreadPoolExecutor worker = workers.get(Math.floorMod(shardKey != null ? shardKey.hashCode() : 0, workers.size()));
+
+        worker.execute(() -> runWithRetry(notificationType, relatedEntityId, recipients, task));
+    }
+
+    /**
+     * 팬아웃 작업을 최대 maxAttempts번까지 실행
+     * 같은 워커의 다음 작업보다 먼저 끝나야 순서가 유지되므로 재시도는 워커 스레드에서 대기한 뒤 수행합니다.
+     */
+    private void runWithRetry(String notificationType, Long relatedEntityId, List<Long> recipients, Consumer<List<Long>> task) {
+        for (int attempt = 1; attempt <= maxAttempts; attempt++) {
+            try {
+                task.accept(recipients);
+                return;
+            } catch (Exception e) {
+                if (attempt == maxAttempts) {
+                    meterRegistry.counter("notification.fanout.errors", "type", notificationType).increment();
+                    log.error("알림 팬아웃 실패 - type: {}, relatedEntityId: {}, 대상 수: {}, 시도 횟수: {}",
+                            notificationType, relatedEntityId, recipients.size(), attempt, e);
+                    return;
+                }
+                log.warn("알림 팬아웃 재시도 - type: {}, relatedEntityId: {}, 시도 횟수: {}, 원인: {}",
+                        notificationType, relatedEntityId, attempt, e.getMessage());
+                try {
+                    Thread.sleep(retryBackoffMillis * attempt);
+                } catch (InterruptedException interrupted) {
+                    Thread.currentThread().interrupt();
+                    meterRegistry.counter("notification.fanout.errors", "type", notificationType).increment();
+                    log.error("알림 팬아웃 재시도 중단 - type: {}, relatedEntityId: {}", notificationType, relatedEntityId, e);
+                    return;
+                }
+            }
+        }
+    }
+
+    /**
+     * 애플리케이션 종료 시 대기 중인 알림을 처리한 뒤 워커 종료
+     */
+    @PreDestroy
+    public void shutdown() throws InterruptedException {
+        for (ThreadPoolExecutor worker : workers) {
+            worker.shutdown();
+        }
+        for (ThreadPoolExecutor worker : workers) {
+            if (!worker.awaitTermination(10, TimeUnit.SECONDS)) {
+                log.warn("알림 팬아웃 워커가 제시간에 종료되지 않았습니다. 남은 작업 수: {}", worker.getQueue().size());
+            }
+        }
+    }
+}
@@ -1,17 +1,25 @@
 package com.example.omg_project.domain.notification.service.impl;
 
 import com.example.omg_project.domain.notification.entity.Notification;
+import com.example.omg_project.domain.notification.repository.NotificationBatchRepository;
 import com.example.omg_project.domain.notification.repository.NotificationRepository;
+import com.example.omg_project.domain.notification.service.NotificationCountService;
 import com.example.omg_project.domain.notification.service.NotificationService;
 import com.example.omg_project.domain.user.entity.User;
 import com.example.omg_project.global.exception.CustomException;
 import com.example.omg_project.global.exception.ErrorCode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.redis.core.RedisCallback;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.serializer.RedisSerializer;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
 
 /**
@@ -21,8 +29,14 @@ import java.util.List;
 @RequiredArgsConstructor
 public class NotificationImpl implements NotificationService {
 
+    private static final String NOTIFICATION_CHANNEL = "notification";
+    private static final int PAGE_VIEW_LIMIT = 200; // 알림 페이지 첫 화면에 표시할 최대 알림 수
+    private static final int MAX_PAGE_LIMIT = 100;  // 알림 목록 API 한 번에 조회할 수 있는 최대 알림 수
+
     private final NotificationRepository notificationRepository;
+    private final NotificationBatchRepository notificationBatchRepository;
     private final RedisTemplate<String, Object> redisTemplate;
+    private final NotificationCountService notificationCountService;
 
     /**
      * 사용자를 위한 새로운 알림을 생성하고 Redis를 통해 실시간으로 전송합니다.
@@ -44,25 +58,149 @@ public class NotificationImpl implements NotificationService {
             notification.setRelatedEntityId(relatedEntityId); // 관련된 엔티티 ID 설정
 
             notificationRepository.save(notification);
+            notificationCountService.increment(user.getId(), notificationType);
 
             // Redis를 통해 실시간 알림 전송
-            redisTemplate.convertAndSend("notification", notification);
+            redisTemplate.convertAndSend(NOTIFICATION_CHANNEL, notification);
+        } catch (Exception e) {
+            throw new CustomException(ErrorCode.NOTIFICATION_CREATION_ERROR);
+        }
+    }
+
+    /**
+     * 여러 사용자에게 같은 알림을 한 번에 생성하고 Redis를 통해 실시간으로 전송합니다.
+     * 알림은 다중 행 INSERT 한 번으로 저장하고, Redis 발행은 파이프라인 한 번으로 전송합니다.
+     *
+     * @param userIds            알림을 받을 사용자 ID 목록
+     * @param message            알림 메시지
+     * @param notificationType  알림 유형
+     * @param relatedEntityId   관련된 엔티티 ID (예: 채팅 메시지 ID 등)
+     */
+    @Override
+    public void createNotifications(Collection<Long> userIds, String message, String notificationType, Long relatedEntityId) {
+        if (userIds.isEmpty()) {
+            return;
+        }
+        try {
+            LocalDateTime now = LocalDateTime.now();
+            List<Notification> notifications = new ArrayList<>(userIds.size());
+            for (Long userId : userIds) {
+                Notification notification = new Notification();
+                notification.setUserId(userId);
+                notification.setMessage(message);
+                notification.setNotificationType(notificationType);
+                notification.setCreatedAt(now);
+                notification.setRelatedEntityId(relatedEntityId);
+                notifications.add(notification);
+            }
+
+            notificationBatchRepository.saveAll(notifications);
+            notificationCountService.incrementAll(userIds, notificationType);
+
+            publishAll(notifications);
         } catch (Exception e) {
             throw new CustomException(ErrorCode.NOTIFICATION_CREATION_ERROR);
         }
     }
 
     /**
-     * 사용자의 읽지 않은 알림 목록을 조회합니다.
+     * 여러 사용자의 묶음 알림을 생성하거나 갱신하고 Redis를 통해 실시간으로 전송합니다.
+     * 사용자별·묶음 범위별로 읽지 않은 알림 한 행만 유지하며, 새 알림은 건수와 마지막 메시지만 갱신합니다.
+     *
+     * @param userIds            알림을 받을 사용자 ID 목록
+     * @param collapseScope     묶음 범위 (예: 채팅방 ID)
+     * @param message            마지막 알림 메시지
+     * @param notificationType  알림 유형
+     * @param relatedEntityId   마지막으로 관련된 엔티티 ID (예: 채팅 메시지 ID)
+     */
+    @Override
+    public void createCollapsedNotifications(Collection<Long> userIds, String collapseScope, String message, String notificationType, Long relatedEntityId) {
+        if (userIds.isEmpty()) {
+            return;
+        }
+        try {
+            LocalDateTime now = LocalDateTime.now();
+            List<Notification> notifications = new ArrayList<>(userIds.size());
+            List<String> collapseKeys = new ArrayList<>(userIds.size());
+            // 같은 순서로 행 잠금을 얻도록 사용자 ID 순으로 정렬
+            for (Long userId : userIds.stream().sorted().toList()) {
+                Notification notification = new Notification();
+                notification.setUserId(userId);
+                notification.setMessage(message);
+                notification.setNotificationType(notificationType);
+                notification.setCreatedAt(now);
+                notification.setRelatedEntityId(relatedEntityId);
+                notification.setCollapseKey(collapseKey(notificationType, userId, collapseScope));
+                notifications.add(notification);
+                collapseKeys.add(notification.getCollapseKey());
+            }
+
+            notificationBatchRepository.upsertCollapsed(notifications);
+            notificationCountService.incrementAll(userIds, notificationType);
+
+            // 갱신된 ID와 누적 건수를 포함해 발행
+            publishAll(notificationRepository.findByCollapseKeyIn(collapseKeys));
+        } catch (Exception e) {
+            throw new CustomException(ErrorCode.NOTIFICATION_CREATION_ERROR);
+        }
+    }
+
+    private String collapseKey(String notificationType, Long userId, String collapseScope) {
+        return notificationType + ":" + userId + ":" + collapseScope;
+    }
+
+    /**
+     * 알림 목록을 Redis 파이프라인 한 번으로 발행합니다.
+     * convertAndSend와 같은 직렬화기를 사용하므로 구독자 입장에서는 동일한 메시지입니다.
      *
-     * @param user 사용자의 정보
-     * @return 읽지 않은 알림 목록
+     * @param notifications 발행할 알림 목록
+     */
+    @SuppressWarnings("unchecked")
+    private void publishAll(List<Notification> notifications) {
+        byte[] channel = redisTemplate.getStringSerializer().serialize(NOTIFICATION_CHANNEL);
+        RedisSerializer<Object> valueSerializer = (RedisSerializer<Object>) redisTemplate.getValueSerializer();
+
+        redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            for (Notification notification : notifications) {
+                connection.publish(channel, valueSerializer.serialize(notification));
+            }
+            return null;
+        });
+    }
+
+    /**
+     * 사용자의 읽지 않은 알림 목록을 최신순으로 조회합니다.
+     * 이전 알림은 getNotifications로 유형별로 이어서 조회합니다.
+     *
+     * @param userId 사용자의 ID
+     * @return 읽지 않은 알림 목록 (최대 PAGE_VIEW_LIMIT건)
      */
     @Override
-    public List<Notification> getUserNotifications(User user) {
+    public List<Notification> getUserNotifications(Long userId) {
         try {
             // 사용자 ID를 기준으로 읽지 않은 알림 목록 조회
-            return notificationRepository.findByUserIdAndIsReadFalse(user.getId());
+            return notificationRepository.findByUserIdAndIsReadFalseOrderByIdDesc(userId, PageRequest.of(0, PAGE_VIEW_LIMIT));
+        } catch (Exception e) {
+            throw new CustomException(ErrorCode.NOTIFICATION_RETRIEVAL_ERROR);
+        }
+    }
+
+    /**
+     * 유형별 읽지 않은 알림을 커서(알림 ID) 기반으로 최신순 조회합니다.
+     *
+     * @param userId 사용자의 ID
+     * @param type   알림 유형
+     * @param before 이 ID보다 이전 알림만 조회 (null이면 최신 알림부터)
+     * @param limit  조회할 최대 알림 수
+     * @return 읽지 않은 알림 목록 (최신순)
+     */
+    @Override
+    public List<Notification> getNotifications(Long userId, String type, Long before, int limit) {
+        try {
+            PageRequest pageRequest = PageRequest.of(0, Math.max(1, Math.min(limit, MAX_PAGE_LIMIT)));
+            return (before == null)
+                    ? notificationRepository.findLatestUnreadByUserIdAndType(userId, type, pageRequest)
+                    : notificationRepository.findUnreadByUserIdAndTypeBefore(userId, type, before, pageRequest);
         } catch (Exception e) {
             throw new CustomException(ErrorCode.NOTIFICATION_RETRIEVAL_ERROR);
         }
@@ -70,18 +208,26 @@ public class NotificationImpl implements NotificationService {
 
     /**
      * 특정 알림을 읽음 상태로 변경합니다.
+     * 조건부 UPDATE로 읽지 않은 상태에서 읽음으로 바뀐 경우에만 카운터를 감소시키므로,
+     * 같은 알림을 동시에 읽음 처리해도 카운터가 중복 감소하지 않습니다.
+     * 감소할 누적 건수는 UPDATE로 행 잠금을 잡은 같은 트랜잭션 안에서 조회합니다.
      *
      * @param notificationId 읽음 상태로 변경할 알림 ID
      */
     @Override
+    @Transactional
     public void markAsRead(Long notificationId) {
         try {
+            if (notificationRepository.markAsReadById(notificationId) != 1) {
+                if (!notificationRepository.existsById(notificationId)) {
+                    throw new CustomException(ErrorCode.NOTIFICATION_NOT_FOUND);
+                }
+                return; // 이미 읽은 알림
+            }
+
             Notification notification = notificationRepository.findById(notificationId)
                     .orElseThrow(() -> new CustomException(ErrorCode.NOTIFICATION_NOT_FOUND));
-
-            notification.setRead(true);
-
-            notificationRepository.save(notification);
+            notificationCountService.decrement(notification.getUserId(), notification.getNotificationType(), notification.getUnreadCount());
         } catch (Exception e) {
             throw new CustomException(ErrorCode.NOTIFICATION_UPDATE_ERROR);
         }
@@ -89,6 +235,7 @@ public class NotificationImpl implements NotificationService {
 
     /**
      * 특정 사용자의 읽지 않은 알림 개수를 조회합니다.
+     * Redis 카운터에서 조회하며, 카운터가 없을 때만 DB에서 집계합니다.
      *
      * @param userId 사용자의 ID
      * @return 읽지 않은 알림의 개수
@@ -96,25 +243,25 @@ public class NotificationImpl implements NotificationService {
     @Override
     public long getUnreadNotificationCount(Long userId) {
         try {
-            return notificationRepository.countUnreadNotifications(userId);
+            return notificationCountService.getUnreadCount(userId);
         } catch (Exception e) {
             throw new CustomException(ErrorCode.NOTIFICATION_COUNT_ERROR);
         }
     }
 
+    /**
+     * 특정 사용자의 타입별 읽지 않은 알림을 모두 읽음 상태로 변경합니다.
+     * 엔티티를 조회하지 않고 UPDATE 한 번으로 처리하며, 묶음 알림의 누적 건수도 함께 초기화됩니다.
+     *
+     * @param userId 사용자의 ID
+     * @param type   읽음 처리할 알림 유형
+     */
     @Override
+    @Transactional
     public void markAllAsReadByType(Long userId, String type) {
         try {
-            List<Notification> notificationList = notificationRepository.findUnreadNotificationsByUserIdAndType(userId, type);
-
-            // 모든 알림을 읽음 상태로 변경
-            for (Notification notification : notificationList) {
-                notification.setRead(true);
-            }
-
-            // 일괄 저장하여 DB 접근 최소화
-            notificationRepository.saveAll(notificationList);
-
+            notificationRepository.markAllAsReadByUserIdAndType(userId, type);
+            notificationCountService.reset(userId, type);
         } catch (Exception e) {
             throw new CustomException(ErrorCode.NOTIFICATION_UPDATE_ERROR);
         }
@@ -0,0 +1,124 @@
+package com.example.omg_project.domain.notification.service.impl;
+
+import com.example.omg_project.domain.notification.repository.NotificationRetentionRepository;
+import com.example.omg_project.domain.notification.repository.NotificationRetentionRepository.ExpiredNotification;
+import com.example.omg_project.domain.notification.service.NotificationRetentionService;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 오래된 읽은 알림을 정리하는 보관 주기 서비스.
+ * - 읽음 처리되었고 생성(created_at) 후 보관 기간(일)이 지난 알림을 정해진 건수씩 보관 테이블로 옮기거나(archive) 삭제(delete)합니다.
+ * - (created_at, id) 커서로 다음 묶음을 찾으므로 이미 확인한 행을 다시 훑지 않습니다.
+ * - 읽지 않은 알림은 대상이 아니므로 읽지 않은 알림 카운터에는 영향이 없습니다.
+ *
+ * 설정 (기본값은 꺼져 있으며, 켜더라도 기본 모드는 보관 테이블로 옮기는 archive 입니다)
+ * - notification.retention.enabled (false): true로 설정해야 정리 작업이 실행됨
+ * - notification.retention.mode (archive): archive = notification_archive로 이동, delete = 영구 삭제 (그 외 값이면 시작 시 실패)
+ * - notification.retention.days (30): 생성 시각(created_at) 기준 보관 기간(일), 읽은 시각은 따로 저장하지 않음
+ * - notification.retention.cron (0 30 4 * * *): 실행 주기
+ * - notification.retention.batch-size (1000), max-batches (500), batch-pause-ms (50): 한 번 실행의 처리량 조절
+ */
+@Slf4j
+@Service
+public class NotificationRetentionServiceImpl implements NotificationRetentionService {
+
+    private static final LocalDateTime CURSOR_START = LocalDateTime.of(1970, 1, 1, 0, 0);
+
+    private final NotificationRetentionRepository notificationRetentionRepository;
+    private final boolean enabled;
+    private final boolean archive;
+    private final int retentionDays;
+    private final int batchSize;
+    private final int maxBatches;
+    private final long batchPauseMs;
+
+    public NotificationRetentionServiceImpl(NotificationRetentionRepository notificationRetentionRepository,
+                                            @Value("${notification.retention.enabled:false}") boolean enabled,
+                                            @Value("${notification.retention.mode:archive}") String mode,
+                                            @Value("${notification.retention.days:30}") int retentionDays,
+                                            @Value("${notification.retention.batch-size:1000}") int batchSize,
+                                            @Value("${notification.retention.max-batches:500}") int maxBatches,
+                                            @Value("${notification.retention.batch-pause-ms:50}") long batchPauseMs) {
+        this.notificationRetentionRepository = notificationRetentionRepository;
+        this.enabled = enabled;
+        this.archive = parseArchiveMode(mode);
+        this.retentionDays = retentionDays;
+        this.batchSize = batchSize;
+        this.maxBatches = maxBatches;
+        this.batchPauseMs = batchPauseMs;
+    }
+
+    /**
+     * 보관 기간이 지난 읽은 알림을 묶음 단위로 정리
+     * 한 번 실행에서 최대 maxBatches 묶음까지만 처리하고, 남은 알림은 다음 실행에서 이어서 처리합니다.
+     *
+     * @return 정리된 알림 수
+     */
+    @Override
+    @Scheduled(cron = "${notification.retention.cron:0 30 4 * * *}")
+    public int purgeExpiredReadNotifications() {
+        if (!enabled) {
+            return 0;
+        }
+        LocalDateTime cutoff = LocalDateTime.now().minusDays(retentionDays);
+        LocalDateTime cursorCreatedAt = CURSOR_START;
+        long cursorId = 0L;
+        int purged = 0;
+
+        try {
+            for (int batch = 0; batch < maxBatches; batch++) {
+                List<ExpiredNotification> expired =
+                        notificationRetentionRepository.findExpiredRead(cutoff, cursorCreatedAt, cursorId, batchSize);
+                if (expired.isEmpty()) {
+                    break;
+                }
+
+                List<Long> ids = expired.stream().map(ExpiredNotification::id).toList();
+                purged += archive ? notificationRetentionRepository.archive(ids) : notificationRetentionRepository.delete(ids);
+
+                ExpiredNotification last = expired.get(expired.size() - 1);
+                cursorCreatedAt = last.createdAt();
+                cursorId = last.id();
+
+                if (expired.size() < batchSize) {
+                    break;
+                }
+                pause();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return purged;
+        } catch (Exception e) {
+            log.error("알림 보관 주기 정리 실패 - 지금까지 정리된 알림 수: {}", purged, e);
+            return purged;
+        }
+
+        log.info("알림 보관 주기 정리 완료 - 모드: {}, 기준: {}일, 정리된 알림 수: {}", archive ? "archive" : "delete", retentionDays, purged);
+        return purged;
+    }
+
+    // 오타 등으로 모드를 알 수 없으면 영구 삭제로 넘어가지 않도록 시작 시 실패
+    private static boolean parseArchiveMode(String mode) {
+        if ("archive".equalsIgnoreCase(mode)) {
+            return true;
+        }
+        if ("delete".equalsIgnoreCase(mode)) {
+            return false;
+        }
+        throw new IllegalArgumentException(
+                "notification.retention.mode는 archive 또는 delete 여야 합니다: " + mode);
+    }
+
+    // 묶음 사이에 잠시 쉬어 복제 지연과 다른 쿼리의 잠금 대기를 줄임
+    private void pause() throws InterruptedException {
+        if (batchPauseMs > 0) {
+            Thread.sleep(batchPauseMs);
+        }
+    }
+}
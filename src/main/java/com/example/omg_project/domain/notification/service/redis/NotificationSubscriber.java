@@ -1,13 +1,13 @@
 package com.example.omg_project.domain.notification.service.redis;
 
 import com.example.omg_project.domain.notification.entity.Notification;
+import com.example.omg_project.domain.notification.websocket.NotificationDispatcher;
 import com.example.omg_project.global.exception.CustomException;
 import com.example.omg_project.global.exception.ErrorCode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.redis.connection.Message;
 import org.springframework.data.redis.connection.MessageListener;
-import org.springframework.messaging.simp.SimpMessagingTemplate;
 import org.springframework.stereotype.Component;
 
 import java.io.IOException;
@@ -20,12 +20,12 @@ import java.io.IOException;
 @RequiredArgsConstructor
 public class NotificationSubscriber implements MessageListener {
 
-    private final SimpMessagingTemplate messagingTemplate;
+    private final NotificationDispatcher notificationDispatcher;
     private final ObjectMapper objectMapper;
 
     /**
      * Redis로부터 수신한 메시지를 처리하는 메서드.
-     * - 메시지를 Notification 객체로 변환한 후, WebSocket을 통해 해당 알림을 전송합니다.
+     * - 메시지를 Notification 객체로 변환한 후, 해당 사용자의 WebSocket 세션으로 알림을 전송합니다.
      * - 메시지 변환이나 전송 중 오류가 발생하면 공통 예외를 발생시킵니다.
      *
      * @param message Redis에서 수신한 메시지 객체
@@ -38,9 +38,8 @@ public class NotificationSubscriber implements MessageListener {
             Notification notification = (Notification) deserialize(message.getBody());
 
             if (notification != null) {
-                // 알림 타입을 기반으로 WebSocket 경로를 구성하고, 해당 경로로 알림을 전송
-                String notificationType = notification.getNotificationType();
-                messagingTemplate.convertAndSend("/topic/notifications/" + notificationType + "/" + notification.getUserId(), notification);
+                // 사용자 목적지(/user/queue/notifications)로 전송, 짧은 시간 내 알림은 한 프레임으로 묶임
+                notificationDispatcher.dispatch(notification);
             }
         } catch (Exception e) {
             throw new CustomException(ErrorCode.NOTIFICATION_PROCESSING_ERROR);
@@ -0,0 +1,87 @@
+package com.example.omg_project.domain.notification.websocket;
+
+import com.example.omg_project.domain.notification.entity.Notification;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 알림을 사용자 목적지(/user/queue/notifications)로 전달하는 컴포넌트.
+ * - 짧은 시간 안에 같은 사용자에게 몰린 알림은 하나의 프레임(알림 배열)으로 묶어서 전송합니다.
+ * - 사용자 목적지는 웹소켓 세션의 사용자(JwtHandshakeHandler)로 라우팅되므로 다른 사용자가 구독할 수 없습니다.
+ */
+@Slf4j
+@Component
+public class NotificationDispatcher {
+
+    public static final String USER_DESTINATION = "/queue/notifications";
+
+    private final SimpMessagingTemplate messagingTemplate;
+    private final long coalesceWindowMs;
+    private final ConcurrentMap<Long, List<Notification>> pending = new ConcurrentHashMap<>();
+    private final ScheduledExecutorService scheduler =
+            Executors.newSingleThreadScheduledExecutor(new CustomizableThreadFactory("notification-dispatch-"));
+
+    public NotificationDispatcher(SimpMessagingTemplate messagingTemplate,
+                                  @Value("${notification.delivery.coalesce-window-ms:50}") long coalesceWindowMs) {
+        this.messagingTemplate = messagingTemplate;
+        this.coalesceWindowMs = coalesceWindowMs;
+    }
+
+    /**
+     * 알림을 사용자별 대기 목록에 추가
+     * 사용자의 첫 알림이 들어올 때 묶음 전송을 예약하고, 이후 알림은 같은 묶음에 합류합니다.
+     *
+     * @param notification 전송할 알림
+     */
+    public void dispatch(Notification notification) {
+        Long userId = notification.getUserId();
+        if (coalesceWindowMs <= 0) {
+            send(userId, List.of(notification));
+            return;
+        }
+        pending.compute(userId, (id, batch) -> {
+            if (batch == null) {
+                batch = new ArrayList<>();
+                scheduler.schedule(() -> flush(id), coalesceWindowMs, TimeUnit.MILLISECONDS);
+            }
+            batch.add(notification);
+            return batch;
+        });
+    }
+
+    private void flush(Long userId) {
+        List<Notification> batch = pending.remove(userId);
+        if (batch != null && !batch.isEmpty()) {
+            send(userId, batch);
+        }
+    }
+
+    private void send(Long userId, List<Notification> notifications) {
+        try {
+            messagingTemplate.convertAndSendToUser(String.valueOf(userId), USER_DESTINATION, notifications);
+        } catch (Exception e) {
+            log.error("알림 전송 실패 - userId: {}, 알림 수: {}", userId, notifications.size(), e);
+        }
+    }
+
+    /**
+     * 애플리케이션 종료 시 대기 중인 알림을 모두 전송한 뒤 스케줄러 종료
+     */
+    @PreDestroy
+    public void shutdown() {
+        scheduler.shutdownNow();
+        pending.keySet().forEach(this::flush);
+    }
+}
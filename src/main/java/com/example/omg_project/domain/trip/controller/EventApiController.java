@@ -5,10 +5,7 @@ import com.example.omg_project.domain.trip.entity.Team;
 import com.example.omg_project.domain.trip.entity.TripDate;
 import com.example.omg_project.domain.trip.entity.TripLocation;
 import com.example.omg_project.domain.user.entity.User;
-import com.example.omg_project.domain.user.service.UserService;
-import com.example.omg_project.global.jwt.util.JwtTokenizer;
-import jakarta.servlet.http.Cookie;
-import jakarta.servlet.http.HttpServletRequest;
+import com.example.omg_project.global.security.CurrentUser;
 import lombok.RequiredArgsConstructor;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
@@ -21,28 +18,12 @@ import java.util.*;
 @RequiredArgsConstructor
 public class EventApiController {
 
-    private final UserService userService;
-    private final JwtTokenizer jwtTokenizer;
-
     @GetMapping
-    public List<Map<String, Object>> getEvents(HttpServletRequest request) {
-        String accessToken = null;
-        Cookie[] cookies = request.getCookies();
-        if (cookies != null) {
-            for (Cookie cookie : cookies) {
-                if ("accessToken".equals(cookie.getName())) {
-                    accessToken = cookie.getValue();
-                    break;
-                }
-            }
-        }
-
-        if (accessToken == null) {
+    public List<Map<String, Object>> getEvents(@CurrentUser User user) {
+        if (user == null) {
             throw new RuntimeException("Access token이 없습니다.");
         }
 
-        String username = jwtTokenizer.getUsernameFromToken(accessToken);
-        User user = userService.findByUsername(username).orElseThrow();
         Set<Team> teamSet = user.getTeams();
 
         List<Map<String, Object>> events = new ArrayList<>();
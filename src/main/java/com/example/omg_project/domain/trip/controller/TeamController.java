@@ -1,9 +1,7 @@
 package com.example.omg_project.domain.trip.controller;
 
-import com.example.omg_project.domain.user.entity.User;
-import com.example.omg_project.domain.user.service.UserService;
-import com.example.omg_project.global.jwt.util.JwtTokenizer;
-import jakarta.servlet.http.HttpServletRequest;
+import com.example.omg_project.global.security.CurrentUser;
+import com.example.omg_project.global.security.LoginUser;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Controller;
 import org.springframework.ui.Model;
@@ -14,17 +12,12 @@ import org.springframework.web.bind.annotation.RequestMapping;
 @RequestMapping("/team")
 @RequiredArgsConstructor
 public class TeamController {
-    private final JwtTokenizer jwtTokenizer;
-    private final UserService userService;
 
     /**
      * 팀 가입 폼
      */
     @GetMapping("/join")
-    public String showJoinTeamForm(Model model, HttpServletRequest request) {
-        String accessToken = jwtTokenizer.getAccessTokenFromCookies(request);
-        String username = jwtTokenizer.getUsernameFromToken(accessToken);
-        User user = userService.findByUsername(username).orElseThrow();
+    public String showJoinTeamForm(Model model, @CurrentUser LoginUser user) {
         model.addAttribute("user", user);
         return "team/join";
     }
@@ -33,12 +26,8 @@ public class TeamController {
      * 현재 사용자가 가입한 팀 목록
      */
     @GetMapping("/myteam")
-    public String showTeamsPage(Model model, HttpServletRequest request) {
-        String accessToken = jwtTokenizer.getAccessTokenFromCookies(request);
-        String username = jwtTokenizer.getUsernameFromToken(accessToken);
-        User user = userService.findByUsername(username).orElseThrow();
+    public String showTeamsPage(Model model, @CurrentUser LoginUser user) {
         model.addAttribute("user", user);
         return "team/myteam";
     }
 }
-
@@ -6,9 +6,10 @@ import com.example.omg_project.domain.trip.repository.TeamRepository;
 import com.example.omg_project.domain.trip.service.TripService;
 import com.example.omg_project.domain.user.entity.User;
 import com.example.omg_project.domain.user.repository.UserRepository;
-import com.example.omg_project.domain.user.service.UserService;
-import com.example.omg_project.global.jwt.util.JwtTokenizer;
-import jakarta.servlet.http.HttpServletRequest;
+import com.example.omg_project.global.exception.CustomException;
+import com.example.omg_project.global.exception.ErrorCode;
+import com.example.omg_project.global.security.CurrentUser;
+import com.example.omg_project.global.security.LoginUser;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Controller;
 import org.springframework.ui.Model;
@@ -27,19 +28,13 @@ public class TripController {
     private final TripService tripService;
     private final TeamRepository teamRepository;
     private final UserRepository userRepository;
-    private final JwtTokenizer jwtTokenizer;
-    private final UserService userService;
 
     /**
      * 여행 일정 생성 페이지 표시
      */
     @GetMapping("/create")
-    public String createTripPage(Model model, HttpServletRequest request) {
-        String accessToken = jwtTokenizer.getAccessTokenFromCookies(request);
-        String username = jwtTokenizer.getUsernameFromToken(accessToken);
-        User user = userService.findByUsername(username).orElseThrow();
-
-        model.addAttribute("user", user);
+    public String createTripPage(Model model, @CurrentUser LoginUser user) {
+        model.addAttribute("user", requireUser(user));
         return "trip/createtrip";
     }
 
@@ -49,16 +44,12 @@ public class TripController {
      *
      * @param id 여행 일정의 ID
      * @param model 모델 객체에 여행 일정 및 관련 정보 추가
-     * @param request HTTP 요청 객체
+     * @param user 로그인한 사용자
      */
     @GetMapping("/{id}")
-    public String viewTripDetails(@PathVariable Long id, Model model, HttpServletRequest request) {
-        // JWT 토큰에서 사용자 정보 추출
-        String accessToken = jwtTokenizer.getAccessTokenFromCookies(request);
-        String username = jwtTokenizer.getUsernameFromToken(accessToken);
-
-        // 사용자 정보 조회
-        User user = userService.findByUsername(username).orElseThrow(() -> new RuntimeException("User not found"));
+    public String viewTripDetails(@PathVariable Long id, Model model, @CurrentUser LoginUser user) {
+        // 로그인한 사용자 정보
+        String username = requireUser(user).getUsername();
 
         // Trip 데이터를 DTO로 변환하여 가져옴
         ReadTripDTO tripDTO = tripService.getTripById(id);
@@ -87,15 +78,12 @@ public class TripController {
      *
      * @param userId 사용자의 ID
      * @param model 모델 객체에 사용자 및 일정 정보 추가
-     * @param request HTTP 요청 객체
+     * @param user 로그인한 사용자
      */
     @GetMapping("/user/{userId}")
-    public String viewTripsByUserIdPage(@PathVariable Long userId, Model model, HttpServletRequest request) {
+    public String viewTripsByUserIdPage(@PathVariable Long userId, Model model, @CurrentUser LoginUser user) {
         List<ReadTripDTO> trips = tripService.getTripsByUserId(userId);
-        String accessToken = jwtTokenizer.getAccessTokenFromCookies(request);
-        String username = jwtTokenizer.getUsernameFromToken(accessToken);
-        User user = userService.findByUsername(username).orElseThrow();
-        model.addAttribute("user", user);
+        model.addAttribute("user", requireUser(user));
         model.addAttribute("trips", trips);
 
         return "trip/usertrip";
@@ -106,15 +94,12 @@ public class TripController {
      *
      * @param id 여행 일정의 ID
      * @param model 모델 객체에 여행 일정 정보 추가
-     * @param request HTTP 요청 객체
+     * @param user 로그인한 사용자
      */
     @GetMapping("/update/{id}")
-    public String showUpdateTripPage(@PathVariable Long id, Model model, HttpServletRequest request) {
+    public String showUpdateTripPage(@PathVariable Long id, Model model, @CurrentUser LoginUser user) {
         ReadTripDTO trip = tripService.getTripById(id);
-        String accessToken = jwtTokenizer.getAccessTokenFromCookies(request);
-        String username = jwtTokenizer.getUsernameFromToken(accessToken);
-        User user = userService.findByUsername(username).orElseThrow();
-        model.addAttribute("user", user);
+        model.addAttribute("user", requireUser(user));
         model.addAttribute("trip", trip);
         return "trip/updatetrip";
     }
@@ -126,4 +111,14 @@ public class TripController {
     public String selectTripPage() {
         return "trip/createorjoin";
     }
+
+    /**
+     * 로그인이 필요한 화면에서 사용자 정보가 없으면 예외 발생
+     */
+    private LoginUser requireUser(LoginUser user) {
+        if (user == null) {
+            throw new CustomException(ErrorCode.USER_NOT_FOUND_EXCEPTION);
+        }
+        return user;
+    }
 }
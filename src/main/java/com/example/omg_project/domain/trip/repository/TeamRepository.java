@@ -2,8 +2,11 @@ package com.example.omg_project.domain.trip.repository;
 
 import com.example.omg_project.domain.trip.entity.Team;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -18,5 +21,9 @@ public interface TeamRepository extends JpaRepository<Team, Long> {
 
     Optional<Team> findByChatRoomId(Long chatRoomId);
 
+    // 여러 채팅방의 팀과 팀원을 한 번에 조회
+    @Query("SELECT DISTINCT t FROM Team t LEFT JOIN FETCH t.users WHERE t.chatRoom.id IN :chatRoomIds")
+    List<Team> findAllByChatRoomIdIn(@Param("chatRoomIds") Collection<Long> chatRoomIds);
+
     boolean existsByIdAndUsersId(Long teamId, Long userId);
 }
@@ -5,11 +5,10 @@ import com.example.omg_project.domain.user.dto.request.AdminNoticeRequest;
 import com.example.omg_project.domain.user.entity.AdminNotice;
 import com.example.omg_project.domain.user.repository.AdminNoticeRepository;
 import com.example.omg_project.domain.user.service.AdminNoticeService;
-import com.example.omg_project.domain.user.entity.User;
 import com.example.omg_project.domain.user.service.UserService;
 import com.example.omg_project.global.exception.CustomException;
-import com.example.omg_project.global.jwt.util.JwtTokenizer;
-import jakarta.servlet.http.HttpServletRequest;
+import com.example.omg_project.global.security.CurrentUser;
+import com.example.omg_project.global.security.LoginUser;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
@@ -26,46 +25,34 @@ public class AdminController {
 
     private final UserService userService;
     private final ReviewPostService reviewPostService;
-    private final JwtTokenizer jwtTokenizer;
     private final AdminNoticeService omgPosterService;
     private final AdminNoticeRepository omgPosterRepository;
 
     /**
      * 모든 사용자 조회
      * @param model 데이터 전달
-     * @param request 클라이언트 요청 정보
+     * @param user 로그인한 사용자
      * @return HTML 폼
      */
     @PreAuthorize("hasRole('ADMIN')")
     @GetMapping("/admin/userboard")
-    public String adminPageAllUserForm(Model model, HttpServletRequest request) {
-
+    public String adminPageAllUserForm(Model model, @CurrentUser LoginUser user) {
         model.addAttribute("users", userService.findAllUsers());
-        String accessToken = jwtTokenizer.getAccessTokenFromCookies(request);
-        if (accessToken != null) {
-            String username = jwtTokenizer.getUsernameFromToken(accessToken);
-            User user = userService.findByUsername(username).orElse(null);
-            model.addAttribute("user", user);
-        }
+        model.addAttribute("user", user);
         return "user/admin-all-user";
     }
 
     /**
      * 모든 여행 후기 게시글 조회
      * @param model 데이터 전달
-     * @param request 클라이언트 요청 정보
+     * @param user 로그인한 사용자
      * @return HTML 폼
      */
     @PreAuthorize("hasRole('ADMIN')")
     @GetMapping("/admin/reviewboard")
-    public String adminPageAllReviewForm(Model model, HttpServletRequest request) {
+    public String adminPageAllReviewForm(Model model, @CurrentUser LoginUser user) {
         model.addAttribute("reviews", reviewPostService.findAllReviewPost());
-        String accessToken = jwtTokenizer.getAccessTokenFromCookies(request);
-        if (accessToken != null) {
-            String username = jwtTokenizer.getUsernameFromToken(accessToken);
-            User user = userService.findByUsername(username).orElse(null);
-            model.addAttribute("user", user);
-        }
+        model.addAttribute("user", user);
         return "user/admin-all-review";
     }
 
@@ -108,17 +95,13 @@ public class AdminController {
     /**
      * 공지사항 작성 폼
      * @param model 데이터 전달
-     * @param request 클라이언트 요청 정보
+     * @param user 로그인한 사용자
      * @return HTML 폼
      */
     @PreAuthorize("hasRole('ADMIN')")
     @GetMapping("/admin/create/notice")
-    public String createNoticesForm(Model model, HttpServletRequest request) {
-
-        String accessToken = jwtTokenizer.getAccessTokenFromCookies(request);
-        if(accessToken != null){
-            String username = jwtTokenizer.getUsernameFromToken(accessToken);
-            User user = userService.findByUsername(username).orElse(null);
+    public String createNoticesForm(Model model, @CurrentUser LoginUser user) {
+        if (user != null) {
             model.addAttribute("user", user);
             return "user/admin-notice";
         }
@@ -148,15 +131,12 @@ public class AdminController {
     /**
      * 모든 공지글 확인 폼
      * @param model 데이터 전달
-     * @param request 클라이언트 요청 정보
+     * @param user 로그인한 사용자
      * @return HTML 폼
      */
     @GetMapping("/notices")
-    public String listNoticeForm(Model model, HttpServletRequest request) {
-        String accessToken = jwtTokenizer.getAccessTokenFromCookies(request);
-        if(accessToken != null){
-            String username = jwtTokenizer.getUsernameFromToken(accessToken);
-            User user = userService.findByUsername(username).orElse(null);
+    public String listNoticeForm(Model model, @CurrentUser LoginUser user) {
+        if (user != null) {
             model.addAttribute("user", user);
             List<AdminNotice> notices = omgPosterService.getAllNotices();
             model.addAttribute("notices", notices);
@@ -169,15 +149,12 @@ public class AdminController {
      * 공지글 상세보기 폼
      * @param id 공지사항 아이디
      * @param model 데이터 전달
-     * @param request 클라이언트 요청 정보
+     * @param user 로그인한 사용자
      * @return HTML 폼
      */
     @GetMapping("/notices/{id}")
-    public String viewNoticeDetail(@PathVariable("id") Long id, Model model, HttpServletRequest request) {
-        String accessToken = jwtTokenizer.getAccessTokenFromCookies(request);
-        if(accessToken != null){
-            String username = jwtTokenizer.getUsernameFromToken(accessToken);
-            User user = userService.findByUsername(username).orElse(null);
+    public String viewNoticeDetail(@PathVariable("id") Long id, Model model, @CurrentUser LoginUser user) {
+        if (user != null) {
             model.addAttribute("user", user);
             AdminNotice notice = omgPosterRepository.findById(id)
                     .orElseThrow(() -> new IllegalArgumentException("Invalid notice Id:" + id));
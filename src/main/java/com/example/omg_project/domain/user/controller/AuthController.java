@@ -1,11 +1,9 @@
 package com.example.omg_project.domain.user.controller;
 
 import com.example.omg_project.domain.user.dto.request.UserSignUpRequest;
-import com.example.omg_project.domain.user.entity.User;
 import com.example.omg_project.domain.user.service.UserService;
-import com.example.omg_project.global.jwt.util.JwtTokenizer;
-import jakarta.servlet.http.HttpServletRequest;
-
+import com.example.omg_project.global.security.CurrentUser;
+import com.example.omg_project.global.security.LoginUser;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Controller;
@@ -23,22 +21,16 @@ import org.springframework.web.bind.annotation.PostMapping;
 public class AuthController {
 
     private final UserService userService;
-    private final JwtTokenizer jwtTokenizer;
 
     /**
      * 메인 홈 폼
-     * @param request 클라이언트 요청 정보
+     * @param user 로그인한 사용자
      * @param model 데이터 전달
      * @return HTML 폼
      */
     @GetMapping("/")
-    public String home(HttpServletRequest request, Model model) {
-        String accessToken = jwtTokenizer.getAccessTokenFromCookies(request);
-        if(accessToken != null){
-            String username = jwtTokenizer.getUsernameFromToken(accessToken);
-            User user = userService.findByUsername(username).orElse(null);
-            model.addAttribute("user", user);
-        }
+    public String home(@CurrentUser LoginUser user, Model model) {
+        model.addAttribute("user", user);
         return "user/home";
     }
 
@@ -72,37 +64,25 @@ public class AuthController {
 
     /**
      * 서비스 소개 폼
-     * @param request 클라이언트 요청 정보
+     * @param user 로그인한 사용자
      * @param model 데이터 전달
      * @return HTML 폼
      */
     @GetMapping("/service")
-    public String showServiceInfo(HttpServletRequest request, Model model){
-
-        String accessToken = jwtTokenizer.getAccessTokenFromCookies(request);
-        if(accessToken != null){
-            String username = jwtTokenizer.getUsernameFromToken(accessToken);
-            User user = userService.findByUsername(username).orElse(null);
-            model.addAttribute("user", user);
-        }
-
+    public String showServiceInfo(@CurrentUser LoginUser user, Model model){
+        model.addAttribute("user", user);
         return "main/service";
     }
 
     /**
      * 고객센터 폼
-     * @param request 클라이언트 요청 정보
+     * @param user 로그인한 사용자
      * @param model 데이터 전달
      * @return HTML 폼
      */
     @GetMapping("/faq")
-    public String adminPageAllFaqForm(Model model, HttpServletRequest request) {
-        String accessToken = jwtTokenizer.getAccessTokenFromCookies(request);
-        if(accessToken != null){
-            String username = jwtTokenizer.getUsernameFromToken(accessToken);
-            User user = userService.findByUsername(username).orElse(null);
-            model.addAttribute("user", user);
-        }
+    public String adminPageAllFaqForm(Model model, @CurrentUser LoginUser user) {
+        model.addAttribute("user", user);
         return "main/faq";
     }
 }
\ No newline at end of file
@@ -10,8 +10,8 @@ import com.example.omg_project.global.exception.CustomException;
 import com.example.omg_project.global.exception.ErrorCode;
 import com.example.omg_project.global.jwt.service.RedisBlackTokenService;
 import com.example.omg_project.global.jwt.service.RedisRefreshTokenService;
+import com.example.omg_project.global.jwt.service.TokenRefreshCoordinator;
 import com.example.omg_project.global.jwt.util.JwtTokenizer;
-import io.jsonwebtoken.Jwts;
 import jakarta.servlet.http.Cookie;
 import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
@@ -43,6 +43,7 @@ public class UserApiController {
     private final PasswordEncoder passwordEncoder;
     private final RedisRefreshTokenService redisRefreshTokenService;
     private final RedisBlackTokenService redisBlackTokenService;
+    private final TokenRefreshCoordinator tokenRefreshCoordinator;
 
     /**
      * 로그인 요청 시 jwt 토큰 발급
@@ -130,11 +131,7 @@ public class UserApiController {
 
         String jwt = accessToken;
 
-        Date expirationTime = Jwts.parser()
-                .setSigningKey(jwtTokenizer.getAccessSecret())
-                .parseClaimsJws(jwt)
-                .getBody()
-                .getExpiration();
+        Date expirationTime = jwtTokenizer.parseAccessToken(jwt).getExpiration();
 
         // 블랙리스트에 추가
         redisBlackTokenService.addBlacklistedToken(accessToken, expirationTime.getTime() - System.currentTimeMillis());
@@ -152,9 +149,9 @@ public class UserApiController {
         refresCcookie.setMaxAge(0);
         response.addCookie(refresCcookie);
 
-        // 레디스에서 리프레시 토큰 삭제
+        // 레디스에서 리프레시 토큰 삭제 (교체 직후의 이전/후속 토큰과 최근 재발급 결과 포함)
         if (refreshToken != null) {
-            redisRefreshTokenService.deleteRefreshToken(refreshToken);
+            tokenRefreshCoordinator.revoke(refreshToken);
         }
 
         try {
@@ -195,11 +192,7 @@ public class UserApiController {
                 String jwt = accessToken;
 
                 // 토큰의 만료 시간 추출
-                Date expirationTime = Jwts.parser()
-                        .setSigningKey(jwtTokenizer.getAccessSecret())
-                        .parseClaimsJws(jwt)
-                        .getBody()
-                        .getExpiration();
+                Date expirationTime = jwtTokenizer.parseAccessToken(jwt).getExpiration();
 
                 // 레디스 토큰 저장
                 redisBlackTokenService.addBlacklistedToken(accessToken, expirationTime.getTime() - System.currentTimeMillis());
@@ -220,9 +213,9 @@ public class UserApiController {
             refreshCookie.setMaxAge(0);
             response.addCookie(refreshCookie);
 
-            // 로그아웃 전 레디스에 저장되어있는 refreshToken 삭제
+            // 로그아웃 전 레디스에 저장되어있는 refreshToken 삭제 (교체 직후의 이전/후속 토큰 포함)
             if (refreshToken != null) {
-                redisRefreshTokenService.deleteRefreshToken(refreshToken);
+                tokenRefreshCoordinator.revoke(refreshToken);
             }
             return ResponseEntity.ok("ok");
         } catch (Exception e) {
@@ -6,8 +6,8 @@ import com.example.omg_project.domain.user.dto.request.UserPasswordChangeRequest
 import com.example.omg_project.domain.user.entity.User;
 import com.example.omg_project.domain.user.service.UserService;
 import com.example.omg_project.global.image.service.ImageService;
-import com.example.omg_project.global.jwt.util.JwtTokenizer;
-import jakarta.servlet.http.HttpServletRequest;
+import com.example.omg_project.global.security.CurrentUser;
+import com.example.omg_project.global.security.LoginUser;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.HttpStatus;
@@ -23,22 +23,18 @@ import org.springframework.web.multipart.MultipartFile;
 public class UserController {
 
     private final UserService userService;
-    private final JwtTokenizer jwtTokenizer;
     private final ImageService imageService;
 
     /**
      * 로그인 회원의 마이페이지
      * @param model 데이터 전달
-     * @param request 클라이언트의 요청 정보
+     * @param user 로그인한 사용자
      * @return HTML 폼
      */
     @GetMapping("/my")
-    public String myPage(Model model, HttpServletRequest request) {
+    public String myPage(Model model, @CurrentUser User user) {
         try {
-            String accessToken = jwtTokenizer.getAccessTokenFromCookies(request);
-            if(accessToken != null){
-                String username = jwtTokenizer.getUsernameFromToken(accessToken);
-                User user = userService.findByUsername(username).orElse(null);
+            if (user != null) {
                 model.addAttribute("user", user);
                 return "user/mypage";
             }
@@ -53,16 +49,13 @@ public class UserController {
     /**
      * OAuth2 로그인 회원 추가 정보 기입 페이지 이동
      * @param model 데이터 전달
-     * @param request 클라이언트 요청 정보
+     * @param user 로그인한 사용자
      * @return HTML 폼
      */
     @GetMapping("/oauthPage")
-    public String addOauth2Form(Model model, HttpServletRequest request) {
+    public String addOauth2Form(Model model, @CurrentUser User user) {
         try {
-            String accessToken = jwtTokenizer.getAccessTokenFromCookies(request);
-            if(accessToken != null) {
-                String username = jwtTokenizer.getUsernameFromToken(accessToken);
-                User user = userService.findByUsername(username).orElse(null);
+            if (user != null) {
                 if (user.getGender().equals("default")) {
                     model.addAttribute("user", user);
                     return "user/oauth2page";
@@ -78,16 +71,14 @@ public class UserController {
     /**
      * OAuth2 로그인 회원 추가 정보 저장 API
      * @param oauth2LoginDto 추가정보 기입 dto
-     * @param request 클라이언트 요청 정보
+     * @param user 로그인한 사용자
      * @return 응답
      */
     @PostMapping("/oauthPage")
     @ResponseBody
-    public ResponseEntity<String> addOauth2(@RequestBody Oauth2LoginRequest oauth2LoginDto, HttpServletRequest request) {
-        String accessToken = jwtTokenizer.getAccessTokenFromCookies(request);
-        if (accessToken != null) {
-            String username = jwtTokenizer.getUsernameFromToken(accessToken);
-            userService.updateOauth2(username, oauth2LoginDto);
+    public ResponseEntity<String> addOauth2(@RequestBody Oauth2LoginRequest oauth2LoginDto, @CurrentUser LoginUser user) {
+        if (user != null) {
+            userService.updateOauth2(user.getUsername(), oauth2LoginDto);
             return ResponseEntity.ok("정보가 성공적으로 저장되었습니다.");
         }
         return ResponseEntity.status(HttpStatus.BAD_REQUEST).body("정보를 저장하는 중 오류가 발생했습니다.");
@@ -96,17 +87,14 @@ public class UserController {
     /**
      * 회원정보 수정 폼
      * @param model 데이터 전달
-     * @param request 클라이언트 요청 정보
+     * @param user 로그인한 사용자
      * @return HTML 폼
      */
     @GetMapping("/my/profile")
-    public String userEditForm(Model model, HttpServletRequest request) {
+    public String userEditForm(Model model, @CurrentUser User user) {
 
         try {
-            String accessToken = jwtTokenizer.getAccessTokenFromCookies(request);
-            if(accessToken != null) {
-                String username = jwtTokenizer.getUsernameFromToken(accessToken);
-                User user = userService.findByUsername(username).orElse(null);
+            if (user != null) {
                 model.addAttribute("user", user);
                 return "user/mypageEdit";
             }
@@ -123,12 +111,11 @@ public class UserController {
      */
     @PutMapping("/api/users/profile")
     @ResponseBody
-    public ResponseEntity<String> updateUserProfile(HttpServletRequest request,
+    public ResponseEntity<String> updateUserProfile(@CurrentUser LoginUser user,
                                                     @RequestPart(value = "userEditDto") UserEditRequest userEditDto,
                                                     @RequestPart(value = "profileImage", required = false) MultipartFile profileImage) {
-        String accessToken = jwtTokenizer.getAccessTokenFromCookies(request);
-        if (accessToken != null) {
-            String username = jwtTokenizer.getUsernameFromToken(accessToken);
+        if (user != null) {
+            String username = user.getUsername();
             try {
                 // 유저 정보 업데이트
                 userService.updateUser(username, userEditDto);
@@ -158,19 +145,16 @@ public class UserController {
 
     /**
      * 비밀번호 재설정 폼
-     * @param request 클라이언트 요청 정보
+     * @param user 로그인한 사용자
      * @param model 데이터 전달
      * @return HTML 폼
      */
     @GetMapping("/my/change-password")
-    public String changePasswordForm(HttpServletRequest request, Model model) {
+    public String changePasswordForm(@CurrentUser User user, Model model) {
         model.addAttribute("userPasswordChangeRequest", new UserPasswordChangeRequest());
 
         try {
-            String accessToken = jwtTokenizer.getAccessTokenFromCookies(request);
-            if(accessToken != null) {
-                String username = jwtTokenizer.getUsernameFromToken(accessToken);
-                User user = userService.findByUsername(username).orElse(null);
+            if (user != null) {
                 model.addAttribute("user", user);
                 return "user/change-Password";
             }
@@ -183,18 +167,16 @@ public class UserController {
 
     /**
      * 비밀번호 재설정 API
-     * @param request 클라이언트 요청 정보
+     * @param user 로그인한 사용자
      * @param userPasswordChangeRequest 비밀번호 재설덜 dto
      * @return 응답
      */
     @PutMapping("/api/users/change-password")
     @ResponseBody
-    public ResponseEntity<String> changePassword(HttpServletRequest request,
+    public ResponseEntity<String> changePassword(@CurrentUser LoginUser user,
                                                  @RequestBody UserPasswordChangeRequest userPasswordChangeRequest) {
-        String accessToken = jwtTokenizer.getAccessTokenFromCookies(request);
-        if (accessToken != null) {
-            String username = jwtTokenizer.getUsernameFromToken(accessToken);
-            boolean success = userService.changePassword(username, userPasswordChangeRequest);
+        if (user != null) {
+            boolean success = userService.changePassword(user.getUsername(), userPasswordChangeRequest);
             if (success) {
                 return ResponseEntity.ok("비밀번호가 변경되었습니다.");
             } else {
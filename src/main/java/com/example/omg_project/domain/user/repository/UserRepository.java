@@ -1,7 +1,10 @@
 package com.example.omg_project.domain.user.repository;
 
 import com.example.omg_project.domain.user.entity.User;
+import com.example.omg_project.global.security.LoginUser;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.Optional;
@@ -16,4 +19,8 @@ public interface UserRepository extends JpaRepository<User, Long> {
     boolean existsByUsernick(String usernick);
 
     User findByUsernick(String usernick);
+
+    // 역할, 팀 등 연관 관계 없이 화면 표시에 필요한 값만 조회
+    @Query("SELECT new com.example.omg_project.global.security.LoginUser(u.id, u.username, u.name, u.usernick, u.filepath) FROM User u WHERE u.id = :id")
+    Optional<LoginUser> findLoginUserById(@Param("id") Long id);
 }
@@ -0,0 +1,12 @@
+package com.example.omg_project.domain.user.service;
+
+import com.example.omg_project.global.security.LoginUser;
+
+import java.util.Optional;
+
+public interface LoginUserService {
+
+    Optional<LoginUser> findLoginUser(Long userId); // 캐시된 로그인 사용자 정보 조회
+
+    void evict(Long userId); // 회원 정보 변경 시 캐시 제거
+}
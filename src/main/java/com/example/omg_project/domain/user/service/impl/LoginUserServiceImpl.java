@@ -0,0 +1,65 @@
+package com.example.omg_project.domain.user.service.impl;
+
+import com.example.omg_project.domain.user.repository.UserRepository;
+import com.example.omg_project.domain.user.service.LoginUserService;
+import com.example.omg_project.global.security.LoginUser;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.Optional;
+
+/**
+ * 로그인 사용자 정보를 짧은 시간 동안 메모리에 캐시하는 서비스
+ * 페이지마다 사용자 엔티티(역할, 팀 포함)를 조회하지 않도록 필요한 값만 담은 LoginUser를 보관합니다.
+ */
+@Service
+public class LoginUserServiceImpl implements LoginUserService {
+
+    private final UserRepository userRepository;
+    private final Cache<Long, LoginUser> cache;
+
+    public LoginUserServiceImpl(UserRepository userRepository,
+                                @Value("${current-user.cache.ttl-seconds:30}") long ttlSeconds,
+                                @Value("${current-user.cache.max-size:10000}") long maxSize) {
+        this.userRepository = userRepository;
+        this.cache = Caffeine.newBuilder()
+                .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+                .maximumSize(maxSize)
+                .build();
+    }
+
+    /**
+     * 사용자 ID로 로그인 사용자 정보 조회 (캐시 미스 시에만 DB 조회)
+     *
+     * @param userId 사용자 ID
+     * @return 로그인 사용자 정보
+     */
+    @Override
+    public Optional<LoginUser> findLoginUser(Long userId) {
+        if (userId == null) {
+            return Optional.empty();
+        }
+        LoginUser cached = cache.getIfPresent(userId);
+        if (cached != null) {
+            return Optional.of(cached);
+        }
+        Optional<LoginUser> loginUser = userRepository.findLoginUserById(userId);
+        loginUser.ifPresent(user -> cache.put(userId, user));
+        return loginUser;
+    }
+
+    /**
+     * 회원 정보가 바뀌었을 때 캐시 제거
+     *
+     * @param userId 사용자 ID
+     */
+    @Override
+    public void evict(Long userId) {
+        if (userId != null) {
+            cache.invalidate(userId);
+        }
+    }
+}
@@ -15,6 +15,7 @@ import com.example.omg_project.domain.user.dto.request.UserPasswordChangeRequest
 import com.example.omg_project.domain.user.dto.request.UserSignUpRequest;
 import com.example.omg_project.domain.user.entity.User;
 import com.example.omg_project.domain.user.repository.UserRepository;
+import com.example.omg_project.domain.user.service.LoginUserService;
 import com.example.omg_project.domain.user.service.UserService;
 import com.example.omg_project.global.exception.CustomException;
 import com.example.omg_project.global.exception.ErrorCode;
@@ -48,6 +49,7 @@ public class UserServiceImpl implements UserService {
     private final JoinPostCommentService joinPostCommentService;
     private final JoinPostReplyService joinPostReplyService;
     private final ImageService imageService;
+    private final LoginUserService loginUserService;
 
     /**
      * 회원가입 메서드
@@ -125,6 +127,7 @@ public class UserServiceImpl implements UserService {
             reviewPostReplyService.deleteByUserId(user.getId());
 
             userRepository.save(user);
+            loginUserService.evict(user.getId()); // 캐시된 로그인 사용자 정보 갱신
 
         } else {
             throw new CustomException(ErrorCode.USER_DELETION_ERROR);
@@ -174,6 +177,7 @@ public class UserServiceImpl implements UserService {
         user.setUsernick(userEditDto.getUsernick());
         user.setPhoneNumber(userEditDto.getPhoneNumber());
         userRepository.save(user);
+        loginUserService.evict(user.getId()); // 캐시된 로그인 사용자 정보 갱신
         return Optional.of(user);
     }
 
@@ -196,6 +200,7 @@ public class UserServiceImpl implements UserService {
         user.setBirthdate(oauth2LoginDto.getBirthdate());
 
         userRepository.save(user);
+        loginUserService.evict(user.getId()); // 캐시된 로그인 사용자 정보 갱신
         return Optional.of(user);
     }
 
@@ -253,6 +258,7 @@ public class UserServiceImpl implements UserService {
             user.setFilepath(imageUrl);
 
             userRepository.save(user);
+            loginUserService.evict(user.getId()); // 캐시된 로그인 사용자 정보 갱신
         }
     }
 }
\ No newline at end of file
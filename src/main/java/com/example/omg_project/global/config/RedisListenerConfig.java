@@ -1,6 +1,10 @@
 package com.example.omg_project.global.config;
 
+import com.example.omg_project.domain.chat.service.redis.BadWordSubscriber;
+import com.example.omg_project.domain.chat.service.redis.ChatBroadcastSubscriber;
 import com.example.omg_project.domain.notification.service.redis.NotificationSubscriber;
+import com.example.omg_project.global.jwt.service.RedisBlackTokenService;
+import com.example.omg_project.global.jwt.service.redis.TokenBlacklistSubscriber;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.data.redis.connection.RedisConnectionFactory;
@@ -15,13 +19,25 @@ public class RedisListenerConfig {
 
     @Bean
     public RedisMessageListenerContainer redisMessageListenerContainer(RedisConnectionFactory connectionFactory,
-                                                                       NotificationSubscriber notificationSubscriber) {
+                                                                       NotificationSubscriber notificationSubscriber,
+                                                                       BadWordSubscriber badWordSubscriber,
+                                                                       TokenBlacklistSubscriber tokenBlacklistSubscriber,
+                                                                       ChatBroadcastSubscriber chatBroadcastSubscriber) {
         RedisMessageListenerContainer container = new RedisMessageListenerContainer();
         container.setConnectionFactory(connectionFactory);
 
         // Subscribe to the "notification" channel
         container.addMessageListener(new MessageListenerAdapter(notificationSubscriber, "onMessage"), new PatternTopic("notification"));
 
+        // Subscribe to the bad word dictionary change channel
+        container.addMessageListener(new MessageListenerAdapter(badWordSubscriber, "onMessage"), new PatternTopic(BadWordSubscriber.CHANNEL));
+
+        // Subscribe to the token blacklist channel (keeps local bloom filters in sync)
+        container.addMessageListener(new MessageListenerAdapter(tokenBlacklistSubscriber, "onMessage"), new PatternTopic(RedisBlackTokenService.CHANNEL));
+
+        // Subscribe to the chat broadcast channel (used when chat.broker.mode=redis)
+        container.addMessageListener(new MessageListenerAdapter(chatBroadcastSubscriber, "onMessage"), new PatternTopic(ChatBroadcastSubscriber.CHANNEL));
+
         return container;
     }
 }
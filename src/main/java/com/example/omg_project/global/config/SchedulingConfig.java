@@ -0,0 +1,12 @@
+package com.example.omg_project.global.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * 알림 카운터 보정 등 주기 작업을 위한 스케줄링 설정
+ */
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+}
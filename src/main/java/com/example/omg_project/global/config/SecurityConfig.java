@@ -3,10 +3,11 @@ package com.example.omg_project.global.config;
 import com.example.omg_project.global.jwt.exception.CustomAuthenticationEntryPoint;
 import com.example.omg_project.global.jwt.filter.JWTFilter;
 import com.example.omg_project.global.jwt.service.RedisBlackTokenService;
-import com.example.omg_project.global.jwt.service.RedisRefreshTokenService;
+import com.example.omg_project.global.jwt.service.TokenRefreshCoordinator;
 import com.example.omg_project.global.jwt.util.JwtTokenizer;
 import com.example.omg_project.global.oauth2.handle.CustomSuccessHandler;
 import com.example.omg_project.global.oauth2.service.CustomOauth2UserService;
+import com.example.omg_project.global.security.PermitAllPaths;
 import lombok.RequiredArgsConstructor;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -31,35 +32,19 @@ public class SecurityConfig {
 
     private final CustomAuthenticationEntryPoint customAuthenticationEntryPoint;
     private final RedisBlackTokenService redisBlackTokenService;
-    private final RedisRefreshTokenService redisRefreshTokenService;
+    private final TokenRefreshCoordinator tokenRefreshCoordinator;
     private final JwtTokenizer jwtTokenizer;
     private final CustomOauth2UserService customOAuth2UserService;
     private final CustomSuccessHandler customSuccessHandler;
 
-    // 모든 유저 허용 페이지
-    String[] allAllowPage = new String[] {
-            "/",        // 메인페이지
-            "/signup", // 회원가입 페이지
-            "/signin", // 로그인 페이지
-            "/css/**", "/js/**", "/files/**", // css, js, 이미지 url
-            "/api/users/login", // 로그인 페이지
-            "/api/users/signup", // 회원가입 페이지
-            "/api/users/mail","/api/users/verify-code", "/api/users/check-email","/api/users/check-usernick", // 인증 메일 페이지
-            "/oauth2/**", "/login/oauth2/**", // OAuth2 로그인 허용
-            "/api/users/randomNickname", // 랜덤 닉네임 생성
-            "/api/users/reset-password", "/api/users/verify-temporary-password", "/users/reset-user-password", // 임시 비밀번호 발급
-            "/service",     // 프로젝트 소개 글
-            "/reviewPost/", // 여행 후기 게시글 목록
-            "/joinPost/",    // 일행 모집 게시글 목록
-            "/api/weather", "/api/weather/coords",  // 날씨 API
-            "/faq",          // 고객센터
-            "/api/channel"   // 채널톡
-    };
+    // 모든 유저 허용 페이지 (JWTFilter와 같은 목록 사용)
+    String[] allAllowPage = PermitAllPaths.antPatterns();
 
     // 관리자 페이지
     String[] adminAllowPage = new String[] {
             "/admin",
-            "/admin/**"
+            "/admin/**",
+            "/actuator/**" // 메트릭 수집(/actuator/prometheus) 등 (헬스 체크는 위의 허용 목록에서 먼저 처리)
     };
 
     @Bean
@@ -70,7 +55,7 @@ public class SecurityConfig {
                         .requestMatchers(adminAllowPage).hasRole("ADMIN")
                         .anyRequest().authenticated()
                 )
-                .addFilterBefore(new JWTFilter(jwtTokenizer, redisBlackTokenService, redisRefreshTokenService), UsernamePasswordAuthenticationFilter.class) // JWT 필터 사용
+                .addFilterBefore(new JWTFilter(jwtTokenizer, redisBlackTokenService, tokenRefreshCoordinator), UsernamePasswordAuthenticationFilter.class) // JWT 필터 사용
                 .formLogin(form -> form.disable()) // 로그인 폼 비활성화
                 .sessionManagement(sessionManagement -> sessionManagement.sessionCreationPolicy(SessionCreationPolicy.STATELESS)) // 세션 관리 Stateless 설정(서버가 클라이언트 상태 저장x)
                 .csrf(csrf -> csrf.disable()) // cors 허용
@@ -0,0 +1,72 @@
+package com.example.omg_project.global.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.scheduling.annotation.AsyncConfigurer;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import java.util.concurrent.Executor;
+
+/**
+ * 가상 스레드 실행 모드 설정
+ * spring.threads.virtual.enabled=true 이면 Tomcat 요청 처리(Spring Boot 기본 지원)와 함께
+ * @Async 작업, STOMP 인바운드/아웃바운드 채널, Kafka 리스너 컨테이너도 가상 스레드에서 실행됩니다.
+ * 가상 스레드는 synchronized 블록 안에서 블로킹되면 캐리어 스레드에 고정(pinning)되므로
+ * 공유 자료구조는 동시성 컬렉션이나 ReentrantLock을 사용해야 합니다.
+ */
+@Configuration
+public class VirtualThreadConfig implements AsyncConfigurer {
+
+    private final boolean enabled;
+
+    public VirtualThreadConfig(@Value("${spring.threads.virtual.enabled:false}") boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    /**
+     * 가상 스레드 모드 사용 여부
+     */
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * @Async 메서드(메일 발송 등)를 실행할 Executor
+     * 가상 스레드 모드가 아니면 null을 반환해 기본 Executor를 사용합니다.
+     */
+    @Override
+    public Executor getAsyncExecutor() {
+        return enabled ? virtualThreadExecutor("async-") : null;
+    }
+
+    /**
+     * 작업마다 새 가상 스레드를 만드는 Executor 생성
+     *
+     * @param threadNamePrefix 스레드 이름 접두사
+     * @return 가상 스레드 Executor
+     */
+    public static SimpleAsyncTaskExecutor virtualThreadExecutor(String threadNamePrefix) {
+        SimpleAsyncTaskExecutor executor = new SimpleAsyncTaskExecutor(threadNamePrefix);
+        executor.setVirtualThreads(true);
+        return executor;
+    }
+
+    /**
+     * STOMP 채널용 가상 스레드 Executor 생성
+     * ChannelRegistration은 ThreadPoolTaskExecutor만 받으므로, 풀 크기를 넉넉히 잡고 스레드만 가상 스레드로 생성합니다.
+     *
+     * @param threadNamePrefix 스레드 이름 접두사
+     * @param poolSize         동시에 실행할 최대 작업 수
+     * @return 가상 스레드를 사용하는 ThreadPoolTaskExecutor
+     */
+    public static ThreadPoolTaskExecutor virtualThreadPoolExecutor(String threadNamePrefix, int poolSize) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setThreadNamePrefix(threadNamePrefix);
+        executor.setVirtualThreads(true);
+        executor.setCorePoolSize(poolSize);
+        executor.setMaxPoolSize(poolSize);
+        executor.setAllowCoreThreadTimeOut(true); // 유휴 가상 스레드는 정리
+        return executor;
+    }
+}
@@ -1,11 +1,18 @@
 package com.example.omg_project.global.config;
 
 import com.example.omg_project.domain.chat.websocket.CustomHandshakeInterceptor;
+import com.example.omg_project.domain.chat.websocket.JwtHandshakeHandler;
 import com.example.omg_project.domain.chat.websocket.WebSocketHandler;
 import com.example.omg_project.domain.notification.websocket.NotificationWebSocketHandler;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.messaging.simp.config.ChannelRegistration;
 import org.springframework.messaging.simp.config.MessageBrokerRegistry;
+import org.springframework.scheduling.TaskScheduler;
 import org.springframework.web.socket.config.annotation.*;
 
 @Configuration
@@ -14,9 +21,59 @@ import org.springframework.web.socket.config.annotation.*;
 @RequiredArgsConstructor
 public class WebSocketConfig implements WebSocketMessageBrokerConfigurer {
 
+    // 웹소켓 핸드셰이크를 허용할 Origin (배포 서버, 로컬 개발)
+    private static final String[] ALLOWED_ORIGINS = {
+            "http://ec2-43-202-189-185.ap-northeast-2.compute.amazonaws.com:8080",
+            "http://localhost:8080"
+    };
+
     private final CustomHandshakeInterceptor customHandshakeInterceptor;
+    private final JwtHandshakeHandler jwtHandshakeHandler;
     private final WebSocketHandler myWebSocketHandler;
     private final NotificationWebSocketHandler notificationWebSocketHandler;
+    private final VirtualThreadConfig virtualThreadConfig;
+
+    // 메시지 브로커 모드 (simple: 서버 내장 브로커, relay: 외부 STOMP 브로커, redis: 내장 브로커 + Redis 채널로 서버 간 전달)
+    @Value("${chat.broker.mode:simple}")
+    private String brokerMode;
+
+    @Value("${chat.broker.relay.host:localhost}")
+    private String relayHost;
+
+    @Value("${chat.broker.relay.port:61613}")
+    private int relayPort;
+
+    @Value("${chat.broker.relay.login:guest}")
+    private String relayLogin;
+
+    @Value("${chat.broker.relay.passcode:guest}")
+    private String relayPasscode;
+
+    // 목적지별 구독자 조회 결과를 캐시할 목적지 수
+    @Value("${chat.broker.cache-limit:4096}")
+    private int brokerCacheLimit;
+
+    // STOMP 하트비트 주기 (ms, 서버 송신/클라이언트 수신 기대값 모두), 0이면 사용하지 않음
+    @Value("${websocket.heartbeat-ms:10000}")
+    private long heartbeatMillis;
+
+    // STOMP 메시지 최대 크기 (bytes)
+    @Value("${websocket.transport.message-size-limit:65536}")
+    private int messageSizeLimit;
+
+    // 세션별 전송 버퍼 최대 크기 (bytes)
+    @Value("${websocket.transport.send-buffer-size-limit:524288}")
+    private int sendBufferSizeLimit;
+
+    // 세션별 전송 한 건의 최대 대기 시간 (ms)
+    @Value("${websocket.transport.send-time-limit-ms:10000}")
+    private int sendTimeLimit;
+
+    private TaskScheduler messageBrokerTaskScheduler;
+
+    // 가상 스레드 모드에서 STOMP 채널별로 동시에 처리할 최대 메시지 수
+    @Value("${websocket.channel.virtual.pool-size:1024}")
+    private int virtualChannelPoolSize;
 
 //    @Override
 //    public void registerWebSocketHandlers(WebSocketHandlerRegistry registry) {
@@ -30,20 +87,77 @@ public class WebSocketConfig implements WebSocketMessageBrokerConfigurer {
 //                .addInterceptors(customHandshakeInterceptor);
 //    }
 
+    /**
+     * 내장 브로커 하트비트에 사용할 스케줄러 (브로커 설정 이후에 생성되므로 지연 주입)
+     */
+    @Autowired
+    public void setMessageBrokerTaskScheduler(@Lazy @Qualifier("messageBrokerTaskScheduler") TaskScheduler taskScheduler) {
+        this.messageBrokerTaskScheduler = taskScheduler;
+    }
+
     @Override
     public void configureMessageBroker(MessageBrokerRegistry config) {
         // 메시지 브로커 설정
-        config.enableSimpleBroker("/topic", "/queue");
+        if ("relay".equalsIgnoreCase(brokerMode)) {
+            // 외부 브로커(RabbitMQ, ActiveMQ 등)가 구독을 관리하므로 여러 서버가 같은 채팅방 메시지를 받음
+            config.enableStompBrokerRelay("/topic", "/queue")
+                    .setRelayHost(relayHost)
+                    .setRelayPort(relayPort)
+                    .setClientLogin(relayLogin)
+                    .setClientPasscode(relayPasscode)
+                    .setSystemLogin(relayLogin)
+                    .setSystemPasscode(relayPasscode)
+                    .setSystemHeartbeatSendInterval(heartbeatMillis)
+                    .setSystemHeartbeatReceiveInterval(heartbeatMillis);
+        } else {
+            // 셀렉터 헤더를 쓰지 않으므로 브로드캐스트마다 구독별 셀렉터 평가를 하지 않음
+            config.enableSimpleBroker("/topic", "/queue")
+                    .setSelectorHeaderName(null)
+                    .setHeartbeatValue(new long[]{heartbeatMillis, heartbeatMillis}) // 끊긴 연결을 빠르게 감지
+                    .setTaskScheduler(messageBrokerTaskScheduler);
+        }
+        config.setCacheLimit(brokerCacheLimit); // 목적지 → 구독자 조회 캐시 크기
+        config.setPreservePublishOrder(true);   // 세션별로 발행 순서대로 전송 (채팅 메시지, 묶음 프레임 순서 유지)
         config.setApplicationDestinationPrefixes("/app");
+        config.setUserDestinationPrefix("/user"); // 사용자별 알림 (/user/queue/notifications)
     }
 
     @Override
     public void registerStompEndpoints(StompEndpointRegistry registry) {
-        // STOMP 엔드포인트 설정
+        // STOMP 엔드포인트 설정 - 네이티브 WebSocket (SockJS 프레이밍과 info/XHR 왕복 없음)
+        registry.addEndpoint("/stomp")
+                .setAllowedOriginPatterns(ALLOWED_ORIGINS) // CORS 설정
+                .addInterceptors(customHandshakeInterceptor)
+                .setHandshakeHandler(jwtHandshakeHandler); // 세션 사용자를 JWT의 사용자 ID로 설정
+
+        // WebSocket을 쓸 수 없는 클라이언트를 위한 SockJS 대체 엔드포인트
         registry.addEndpoint("/ws")
-                .setAllowedOrigins("http://ec2-43-202-189-185.ap-northeast-2.compute.amazonaws.com:8080") // CORS 설정
-                .setAllowedOrigins("localhost:8080")
+                .setAllowedOriginPatterns(ALLOWED_ORIGINS) // CORS 설정
                 .addInterceptors(customHandshakeInterceptor)
+                .setHandshakeHandler(jwtHandshakeHandler) // 세션 사용자를 JWT의 사용자 ID로 설정
                 .withSockJS();
     }
+
+    @Override
+    public void configureWebSocketTransport(WebSocketTransportRegistration registration) {
+        // 세션별 제한: 초과하면 느린 클라이언트의 연결을 종료해 다른 세션 전송이 밀리지 않도록 함
+        registration.setMessageSizeLimit(messageSizeLimit)
+                .setSendBufferSizeLimit(sendBufferSizeLimit)
+                .setSendTimeLimit(sendTimeLimit);
+    }
+
+    @Override
+    public void configureClientInboundChannel(ChannelRegistration registration) {
+        if (virtualThreadConfig.isEnabled()) {
+            // 인바운드 메시지 처리(@MessageMapping → Kafka 발행 등)를 가상 스레드에서 실행
+            registration.taskExecutor(VirtualThreadConfig.virtualThreadPoolExecutor("stomp-inbound-", virtualChannelPoolSize));
+        }
+    }
+
+    @Override
+    public void configureClientOutboundChannel(ChannelRegistration registration) {
+        if (virtualThreadConfig.isEnabled()) {
+            registration.taskExecutor(VirtualThreadConfig.virtualThreadPoolExecutor("stomp-outbound-", virtualChannelPoolSize));
+        }
+    }
 }
@@ -4,10 +4,12 @@ import com.example.omg_project.global.exception.CustomException;
 import com.example.omg_project.global.exception.ErrorCode;
 import com.example.omg_project.global.jwt.exception.JwtExceptionCode;
 import com.example.omg_project.global.jwt.service.RedisBlackTokenService;
-import com.example.omg_project.global.jwt.service.RedisRefreshTokenService;
+import com.example.omg_project.global.jwt.service.TokenRefreshCoordinator;
+import com.example.omg_project.global.jwt.service.TokenRefreshCoordinator.RefreshResult;
 import com.example.omg_project.global.jwt.token.JwtAuthenticationToken;
 import com.example.omg_project.global.jwt.util.JwtTokenizer;
 import com.example.omg_project.global.security.CustomUserDetails;
+import com.example.omg_project.global.security.PermitAllPaths;
 import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.ExpiredJwtException;
 import io.jsonwebtoken.MalformedJwtException;
@@ -34,27 +36,14 @@ public class JWTFilter extends OncePerRequestFilter {
 
     private final JwtTokenizer jwtTokenizer;
     private final RedisBlackTokenService redisBlackTokenService;
-    private final RedisRefreshTokenService redisRefreshTokenService;
+    private final TokenRefreshCoordinator tokenRefreshCoordinator;
 
-    public JWTFilter(JwtTokenizer jwtTokenizer, RedisBlackTokenService redisBlackTokenService, RedisRefreshTokenService redisRefreshTokenService) {
+    public JWTFilter(JwtTokenizer jwtTokenizer, RedisBlackTokenService redisBlackTokenService, TokenRefreshCoordinator tokenRefreshCoordinator) {
         this.jwtTokenizer = jwtTokenizer;
         this.redisBlackTokenService = redisBlackTokenService;
-        this.redisRefreshTokenService = redisRefreshTokenService;
+        this.tokenRefreshCoordinator = tokenRefreshCoordinator;
     }
 
-    /**
-     * 접근 허용 앤드 포인트 목록
-     */
-    private static final List<String> PERMIT_ALL_PATHS = List.of(
-            "/signup", "/signin", "/", "/api/users/login", "/api/users/signup",
-            "/api/users/mail","/api/users/verify-code", "/api/users/check-email","/api/users/check-usernick",
-            "/oauth2/.*", "/login/oauth2/.*", "/api/users/randomNickname",
-            "/css/.*", "/js/.*", "/files/.*",
-            "/api/users/reset-password", "/api/users/verify-temporary-password",
-            "/service", "/reviewPost/", "/joinPost/", "/users/reset-user-password",
-            "/api/weather", "/faq", "/api/weather/coords", "/api/channel"
-    );
-
     /**
      * 필터 메서드
      * 각 요청마다 JWT 토큰을 검증하고 인증을 설정
@@ -89,7 +78,7 @@ public class JWTFilter extends OncePerRequestFilter {
      *  요청 경로가 인증 없이 접근 가능한지 확인
      */
     private boolean isPermitAllPath(String requestPath) {
-        return PERMIT_ALL_PATHS.stream().anyMatch(requestPath::matches);
+        return PermitAllPaths.matches(requestPath);
     }
 
     /**
@@ -99,28 +88,13 @@ public class JWTFilter extends OncePerRequestFilter {
         // 쿠키에서 Refresh Token을 얻어옴
         String refreshToken = getRefreshToken(request);
         if (StringUtils.hasText(refreshToken)) {
-            try {
-                // Refresh Token이 DB에 존재하는지 확인
-                String storedToken = redisRefreshTokenService.getRefreshToken(refreshToken);
-
-                log.info("Token :: {}", storedToken); // 레디스에 있는 토큰의 값이 잘 출력되는지 확인
-
-                if (refreshToken.equals(storedToken)) {
-                    if (!jwtTokenizer.isRefreshTokenExpired(refreshToken)) {
-                        String newAccessToken = jwtTokenizer.refreshAccessToken(refreshToken);
-                        setAccessTokenCookie(response, newAccessToken);
-                        getAuthentication(newAccessToken);
-                    } else {
-                        // Refresh Token이 만료된 경우
-                        handleException(request, JwtExceptionCode.EXPIRED_TOKEN, "Refresh token expired");
-                    }
-                } else {
-                    // Refresh Token이 DB에 없는 경우
-                    handleException(request, JwtExceptionCode.NOT_FOUND_TOKEN, "Refresh token not found in database");
-                }
-            } catch (ExpiredJwtException e) {
-                // Refresh Token이 만료된 경우
-                handleException(request, JwtExceptionCode.EXPIRED_TOKEN, "Expired refresh token", e);
+            // 동시에 들어온 요청들은 한 번의 재발급 결과를 함께 사용
+            RefreshResult refreshed = tokenRefreshCoordinator.refresh(refreshToken).orElse(null);
+            if (refreshed != null) {
+                applyRefreshResult(response, refreshed);
+            } else {
+                // Refresh Token이 만료되었거나 DB에 없는 경우
+                handleException(request, JwtExceptionCode.NOT_FOUND_TOKEN, "Refresh token expired or not found in database");
             }
         } else {
             handleException(request, JwtExceptionCode.NOT_FOUND_TOKEN, "Token not found in request");
@@ -157,13 +131,12 @@ public class JWTFilter extends OncePerRequestFilter {
     private void handleExpiredAccessToken(HttpServletRequest request, HttpServletResponse response, String token, ExpiredJwtException e) throws ServletException, IOException {
         log.warn("Access token expired: {}", token);
         String refreshToken = getRefreshToken(request);
-        if (StringUtils.hasText(refreshToken) && !jwtTokenizer.isRefreshTokenExpired(refreshToken)) {
+        RefreshResult refreshed = StringUtils.hasText(refreshToken)
+                ? tokenRefreshCoordinator.refresh(refreshToken).orElse(null)
+                : null;
+        if (refreshed != null) {
             // Refresh Token이 유효한 경우 새로운 Access Token 발급
-            String newAccessToken = jwtTokenizer.refreshAccessToken(refreshToken);
-
-            setAccessTokenCookie(response, newAccessToken);
-
-            getAuthentication(newAccessToken);
+            applyRefreshResult(response, refreshed);
         } else {
             handleException(request, JwtExceptionCode.EXPIRED_TOKEN, "Expired Token : " + token, e);
         }
@@ -217,6 +190,26 @@ public class JWTFilter extends OncePerRequestFilter {
         response.addCookie(accessTokenCookie);
     }
 
+    /**
+     * 교체된 Refresh Token을 쿠키에 설정하는 메서드
+     */
+    private void setRefreshTokenCookie(HttpServletResponse response, String newRefreshToken) {
+        Cookie refreshTokenCookie = new Cookie("refreshToken", newRefreshToken);
+        refreshTokenCookie.setHttpOnly(true);
+        refreshTokenCookie.setPath("/");
+        refreshTokenCookie.setMaxAge(Math.toIntExact(JwtTokenizer.REFRESH_TOKEN_EXPIRE_COUNT / 1000));
+        response.addCookie(refreshTokenCookie);
+    }
+
+    /**
+     * 재발급된 토큰들을 쿠키에 설정하고 새 Access Token으로 인증 설정
+     */
+    private void applyRefreshResult(HttpServletResponse response, RefreshResult refreshed) {
+        setAccessTokenCookie(response, refreshed.accessToken());
+        setRefreshTokenCookie(response, refreshed.refreshToken());
+        getAuthentication(refreshed.accessToken());
+    }
+
     /**
      * 토큰을 사용하여 인증 설정
      */
@@ -229,7 +222,7 @@ public class JWTFilter extends OncePerRequestFilter {
 
         CustomUserDetails userDetails = new CustomUserDetails(username, "", authorities);
 
-        Authentication authentication = new JwtAuthenticationToken(authorities, userDetails, null); // 인증 객체 생성
+        Authentication authentication = new JwtAuthenticationToken(authorities, userDetails, null, claims); // 인증 객체 생성 (검증된 클레임 포함)
 
         SecurityContextHolder.getContext().setAuthentication(authentication); // SecurityContextHolder에 인증 객체 설정
 
@@ -1,18 +1,49 @@
 package com.example.omg_project.global.jwt.service;
 
+import com.example.omg_project.global.jwt.util.TokenBloomFilter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.Cursor;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
 import java.util.concurrent.TimeUnit;
 
+/**
+ * 로그아웃 등으로 무효화된 토큰을 관리하는 서비스
+ * - 블랙리스트 원본은 Redis(blacklist:<token>)에 있고, 서버마다 토큰 해시의 블룸 필터를 메모리에 둡니다.
+ * - 필터에 없는 토큰은 Redis 조회 없이 통과시키고, 필터에 걸린 경우에만 Redis에서 확인합니다.
+ * - 새 블랙리스트 토큰은 Redis 채널로 다른 서버의 필터에 전파되고, 필터는 주기적으로 Redis 스캔으로 다시 만들어집니다.
+ */
+@Slf4j
 @Service
 public class RedisBlackTokenService {
 
+    public static final String CHANNEL = "token_blacklisted";
+
     private final RedisTemplate<String, String> redisTemplate;
     private final String REDIS_BLACKLIST_KEY_PREFIX = "blacklist:";
+    private final long expectedInsertions;
+    private final double falsePositiveRate;
+
+    private volatile TokenBloomFilter filter;     // null이면 아직 적재 전이므로 항상 Redis 조회
+    private volatile TokenBloomFilter rebuilding; // 재생성 중인 필터 (재생성 중 추가된 토큰도 함께 반영)
 
-    public RedisBlackTokenService(RedisTemplate<String, String> redisTemplate) {
+    public RedisBlackTokenService(RedisTemplate<String, String> redisTemplate,
+                                  @Value("${jwt.blacklist.bloom.expected-insertions:100000}") long expectedInsertions,
+                                  @Value("${jwt.blacklist.bloom.false-positive-rate:0.01}") double falsePositiveRate) {
         this.redisTemplate = redisTemplate;
+        this.expectedInsertions = expectedInsertions;
+        this.falsePositiveRate = falsePositiveRate;
     }
 
     /**
@@ -21,14 +52,88 @@ public class RedisBlackTokenService {
     public void addBlacklistedToken(String token, long expiration) {
         String key = REDIS_BLACKLIST_KEY_PREFIX + token;
         redisTemplate.opsForValue().set(key, token, expiration, TimeUnit.MILLISECONDS);
+
+        byte[] digest = digest(token);
+        addToFilter(digest);
+        try {
+            // 다른 서버의 필터에도 반영 (토큰 원문 대신 해시만 전송)
+            redisTemplate.convertAndSend(CHANNEL, Base64.getEncoder().encodeToString(digest));
+        } catch (DataAccessException e) {
+            log.warn("블랙리스트 토큰 전파 실패, 다음 필터 재생성 때 반영됩니다.", e);
+        }
     }
 
     /**
      * 블랙리스트 토큰이 유효한지 확인
      */
     public boolean isTokenBlacklisted(String token) {
+        TokenBloomFilter current = filter;
+        if (current != null && !current.mightContain(digest(token))) {
+            return false; // 필터에 없으면 블랙리스트 토큰이 아님
+        }
         String key = REDIS_BLACKLIST_KEY_PREFIX + token;
         String storedToken = redisTemplate.opsForValue().get(key);
         return storedToken != null;
     }
-}
\ No newline at end of file
+
+    /**
+     * 다른 서버에서 전파된 블랙리스트 토큰 해시를 필터에 추가
+     *
+     * @param encodedDigest Base64로 인코딩된 토큰 해시
+     */
+    public void onBlacklisted(String encodedDigest) {
+        try {
+            addToFilter(Base64.getDecoder().decode(encodedDigest));
+        } catch (IllegalArgumentException e) {
+            log.warn("잘못된 블랙리스트 토큰 해시를 무시합니다: {}", encodedDigest);
+        }
+    }
+
+    /**
+     * Redis의 블랙리스트 키를 스캔하여 필터를 다시 생성
+     * 애플리케이션 시작 시, 그리고 만료된 토큰을 필터에서 비우기 위해 주기적으로 실행됩니다.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(fixedDelayString = "${jwt.blacklist.bloom.rebuild-interval-ms:300000}",
+            initialDelayString = "${jwt.blacklist.bloom.rebuild-interval-ms:300000}")
+    public void rebuildFilter() {
+        TokenBloomFilter next = new TokenBloomFilter(expectedInsertions, falsePositiveRate);
+        rebuilding = next;
+        int count = 0;
+        ScanOptions options = ScanOptions.scanOptions().match(REDIS_BLACKLIST_KEY_PREFIX + "*").count(1000).build();
+        try (Cursor<String> cursor = redisTemplate.scan(options)) {
+            while (cursor.hasNext()) {
+                next.put(digest(cursor.next().substring(REDIS_BLACKLIST_KEY_PREFIX.length())));
+                count++;
+            }
+            filter = next;
+            log.info("블랙리스트 블룸 필터 재생성 완료 - 토큰 수: {}", count);
+        } catch (DataAccessException e) {
+            log.warn("블랙리스트 블룸 필터 재생성 실패, 기존 필터를 유지합니다.", e);
+        } finally {
+            rebuilding = null;
+        }
+    }
+
+    private void addToFilter(byte[] digest) {
+        // 순서 주의: rebuilding을 먼저 읽어야 함
+        // rebuildFilter는 filter를 교체한 뒤 rebuilding을 비우므로, rebuilding이 null이면 아래에서 읽는 filter는 이미 새 필터이고
+        // 반대로 filter를 먼저 읽으면 그 사이 교체가 끝나 옛 필터와 null만 보고 새 필터에서 누락될 수 있음
+        TokenBloomFilter next = rebuilding;
+        if (next != null) {
+            next.put(digest);
+        }
+        TokenBloomFilter current = filter;
+        if (current != null && current != next) {
+            current.put(digest);
+        }
+    }
+
+    private static byte[] digest(String token) {
+        try {
+            return MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.UTF_8));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+}
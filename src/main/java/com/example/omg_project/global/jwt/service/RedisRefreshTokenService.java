@@ -1,15 +1,49 @@
 package com.example.omg_project.global.jwt.service;
 
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
 import org.springframework.stereotype.Service;
 
+import java.util.List;
 import java.util.concurrent.TimeUnit;
 
 @Service
 public class RedisRefreshTokenService {
 
     private final RedisTemplate<String, String> redisTemplate;
-    private final String REDIS_REFRESH_TOKEN_KEY_PREFIX = "refreshToken:";
+    private static final String REDIS_REFRESH_TOKEN_KEY_PREFIX = "refreshToken:";
+    public static final String ROTATED_PREFIX = "rotated:";
+    private static final String ROTATED_FROM_PREFIX = "rotatedFrom:"; // 후속 토큰 → 유예 중인 이전 토큰
+
+    // 기존 토큰이 저장된 값과 같을 때만 새 토큰을 저장하고, 기존 키는 잠시 후속 토큰을 가리키도록 남김
+    // 이미 교체된 토큰이면 후속 토큰이 아직 저장되어 있을 때만(로그아웃되지 않았을 때만) 후속 토큰을 돌려줌
+    // 반환값: 교체 성공 시 기존 토큰, 이미 교체된 경우 "rotated:<후속 토큰>", 없거나 폐기된 토큰이면 nil
+    private static final RedisScript<String> ROTATE_SCRIPT = new DefaultRedisScript<>(
+            "local stored = redis.call('GET', KEYS[1]) "
+                    + "if not stored then return nil end "
+                    + "if stored ~= ARGV[1] then "
+                    + "  if string.sub(stored, 1, " + ROTATED_PREFIX.length() + ") == '" + ROTATED_PREFIX + "' "
+                    + "     and redis.call('EXISTS', '" + REDIS_REFRESH_TOKEN_KEY_PREFIX + "' .. string.sub(stored, " + (ROTATED_PREFIX.length() + 1) + ")) == 0 then "
+                    + "    return nil "
+                    + "  end "
+                    + "  return stored "
+                    + "end "
+                    + "redis.call('SET', KEYS[2], ARGV[2], 'PX', ARGV[3]) "
+                    + "redis.call('SET', KEYS[1], '" + ROTATED_PREFIX + "' .. ARGV[2], 'PX', ARGV[4]) "
+                    + "redis.call('SET', KEYS[3], ARGV[1], 'PX', ARGV[4]) "
+                    + "return stored", String.class);
+
+    // 토큰을 폐기하면서 교체 관계로 연결된 토큰(후속 토큰, 유예 중인 이전 토큰)도 함께 삭제
+    private static final RedisScript<Long> REVOKE_SCRIPT = new DefaultRedisScript<>(
+            "local stored = redis.call('GET', KEYS[1]) "
+                    + "local previous = redis.call('GET', KEYS[2]) "
+                    + "redis.call('DEL', KEYS[1], KEYS[2]) "
+                    + "if stored and string.sub(stored, 1, " + ROTATED_PREFIX.length() + ") == '" + ROTATED_PREFIX + "' then "
+                    + "  redis.call('DEL', '" + REDIS_REFRESH_TOKEN_KEY_PREFIX + "' .. string.sub(stored, " + (ROTATED_PREFIX.length() + 1) + ")) "
+                    + "end "
+                    + "if previous then redis.call('DEL', '" + REDIS_REFRESH_TOKEN_KEY_PREFIX + "' .. previous) end "
+                    + "return 1", Long.class);
 
     public RedisRefreshTokenService(RedisTemplate<String, String> redisTemplate) {
         this.redisTemplate = redisTemplate;
@@ -40,6 +74,15 @@ public class RedisRefreshTokenService {
         redisTemplate.delete(key);
     }
 
+    /**
+     * 로그아웃 시 리프레시 토큰 폐기
+     * 교체 직후라면 유예 중인 이전 토큰과 후속 토큰도 함께 삭제하여, 어느 쿠키로도 다시 재발급받지 못하게 합니다.
+     */
+    public void revokeRefreshToken(String refreshToken) {
+        redisTemplate.execute(REVOKE_SCRIPT,
+                List.of(REDIS_REFRESH_TOKEN_KEY_PREFIX + refreshToken, ROTATED_FROM_PREFIX + refreshToken));
+    }
+
     /**
      * 리프레시 토큰 조회
      */
@@ -47,4 +90,21 @@ public class RedisRefreshTokenService {
         String key = REDIS_REFRESH_TOKEN_KEY_PREFIX + refreshToken;
         return redisTemplate.opsForValue().get(key);
     }
-}
\ No newline at end of file
+
+    /**
+     * 리프레시 토큰을 원자적으로 교체
+     * 여러 서버가 같은 토큰을 동시에 교체하려 해도 한 번만 교체되고, 나머지는 후속 토큰을 돌려받습니다.
+     *
+     * @param refreshToken    기존 리프레시 토큰
+     * @param newRefreshToken 새 리프레시 토큰
+     * @param expiration      새 토큰의 만료 시간 (밀리초)
+     * @param graceMillis     기존 토큰이 후속 토큰을 가리키는 유예 시간 (밀리초)
+     * @return 교체 성공 시 기존 토큰, 이미 교체된 경우 "rotated:<후속 토큰>", 유효하지 않거나 후속 토큰이 폐기되었으면 null
+     */
+    public String rotateRefreshToken(String refreshToken, String newRefreshToken, long expiration, long graceMillis) {
+        return redisTemplate.execute(ROTATE_SCRIPT,
+                List.of(REDIS_REFRESH_TOKEN_KEY_PREFIX + refreshToken, REDIS_REFRESH_TOKEN_KEY_PREFIX + newRefreshToken,
+                        ROTATED_FROM_PREFIX + newRefreshToken),
+                refreshToken, newRefreshToken, String.valueOf(expiration), String.valueOf(graceMillis));
+    }
+}
@@ -0,0 +1,163 @@
+package com.example.omg_project.global.jwt.service;
+
+import com.example.omg_project.global.jwt.util.JwtTokenizer;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.Base64;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * 리프레시 토큰으로 액세스 토큰을 재발급하는 과정을 리프레시 토큰 단위로 한 번만 수행하는 코디네이터.
+ * - 같은 리프레시 토큰을 가진 동시 요청은 진행 중인 재발급 결과를 기다렸다가 함께 사용합니다.
+ * - 재발급 직후 짧은 시간 동안은 같은 결과를 재사용하므로, 교체 전 쿠키를 들고 온 요청도 실패하지 않습니다.
+ * - 리프레시 토큰은 재발급 시 Redis에서 원자적으로 교체됩니다.
+ */
+@Slf4j
+@Component
+public class TokenRefreshCoordinator {
+
+    private final JwtTokenizer jwtTokenizer;
+    private final RedisRefreshTokenService redisRefreshTokenService;
+    private final long rotationGraceMillis;
+
+    private final ConcurrentMap<String, CompletableFuture<RefreshResult>> inFlight = new ConcurrentHashMap<>();
+    private final Cache<String, RefreshResult> recentResults; // 키: 기존 리프레시 토큰의 SHA-256
+
+    public TokenRefreshCoordinator(JwtTokenizer jwtTokenizer,
+                                   RedisRefreshTokenService redisRefreshTokenService,
+                                   @Value("${jwt.refresh.share-window-ms:10000}") long shareWindowMillis,
+                                   @Value("${jwt.refresh.rotation-grace-ms:30000}") long rotationGraceMillis) {
+        this.jwtTokenizer = jwtTokenizer;
+        this.redisRefreshTokenService = redisRefreshTokenService;
+        this.rotationGraceMillis = rotationGraceMillis;
+        this.recentResults = Caffeine.newBuilder()
+                .expireAfterWrite(Duration.ofMillis(shareWindowMillis))
+                .maximumSize(10_000)
+                .build();
+    }
+
+    /**
+     * 리프레시 토큰으로 새 액세스 토큰과 교체된 리프레시 토큰을 발급
+     *
+     * @param refreshToken 요청 쿠키의 리프레시 토큰
+     * @return 재발급 결과, 리프레시 토큰이 만료되었거나 저장소에 없으면 empty
+     */
+    public Optional<RefreshResult> refresh(String refreshToken) {
+        String key = hash(refreshToken);
+        RefreshResult recent = recentResults.getIfPresent(key);
+        if (recent != null) {
+            // 다른 서버에서 로그아웃되었을 수 있으므로 후속 토큰이 아직 저장되어 있는지 확인
+            if (recent.refreshToken().equals(redisRefreshTokenService.getRefreshToken(recent.refreshToken()))) {
+                return Optional.of(recent);
+            }
+            recentResults.invalidate(key);
+            return Optional.empty();
+        }
+
+        CompletableFuture<RefreshResult> mine = new CompletableFuture<>();
+        CompletableFuture<RefreshResult> running = inFlight.putIfAbsent(key, mine);
+        if (running != null) {
+            // 다른 요청이 재발급 중이면 그 결과를 함께 사용
+            try {
+                return Optional.ofNullable(running.join());
+            } catch (CompletionException e) {
+                throw e.getCause() instanceof RuntimeException cause ? cause : e;
+            }
+        }
+
+        try {
+            RefreshResult result = rotate(refreshToken);
+            if (result != null) {
+                recentResults.put(key, result);
+            }
+            mine.complete(result);
+            return Optional.ofNullable(result);
+        } catch (RuntimeException e) {
+            mine.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(key, mine);
+        }
+    }
+
+    /**
+     * 로그아웃 시 리프레시 토큰을 폐기하고, 이 토큰과 관련된 최근 재발급 결과도 제거
+     *
+     * @param refreshToken 요청 쿠키의 리프레시 토큰
+     */
+    public void revoke(String refreshToken) {
+        redisRefreshTokenService.revokeRefreshToken(refreshToken);
+        String key = hash(refreshToken);
+        recentResults.asMap().entrySet().removeIf(entry ->
+                entry.getKey().equals(key) || entry.getValue().refreshToken().equals(refreshToken));
+    }
+
+    private RefreshResult rotate(String refreshToken) {
+        Claims claims;
+        try {
+            claims = jwtTokenizer.parseRefreshToken(refreshToken); // 만료/위조 시 예외 발생
+        } catch (JwtException | IllegalArgumentException e) {
+            log.debug("리프레시 토큰이 유효하지 않습니다: {}", e.getMessage());
+            return null;
+        }
+
+        Long userId = claims.get("userId", Long.class);
+        String username = claims.getSubject();
+        String name = claims.get("name", String.class);
+        @SuppressWarnings("unchecked")
+        List<String> roles = (List<String>) claims.get("roles");
+
+        String newRefreshToken = jwtTokenizer.createRefreshToken(userId, username, name, roles);
+        if (!newRefreshToken.equals(refreshToken)) {
+            String stored = redisRefreshTokenService.rotateRefreshToken(refreshToken, newRefreshToken,
+                    JwtTokenizer.REFRESH_TOKEN_EXPIRE_COUNT, rotationGraceMillis);
+            if (stored == null) {
+                return null; // 로그아웃 등으로 삭제된 토큰
+            }
+            if (stored.startsWith(RedisRefreshTokenService.ROTATED_PREFIX)) {
+                // 다른 서버가 먼저 교체한 경우 그 후속 토큰을 사용
+                newRefreshToken = stored.substring(RedisRefreshTokenService.ROTATED_PREFIX.length());
+            } else if (!stored.equals(refreshToken)) {
+                return null;
+            }
+        } else if (!refreshToken.equals(redisRefreshTokenService.getRefreshToken(refreshToken))) {
+            return null; // 같은 초에 발급되어 토큰이 같으면 교체 없이 저장 여부만 확인
+        }
+
+        String newAccessToken = jwtTokenizer.createAccessToken(userId, username, name, roles);
+        return new RefreshResult(newAccessToken, newRefreshToken);
+    }
+
+    private static String hash(String token) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.UTF_8));
+            return Base64.getEncoder().encodeToString(digest);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+
+    /**
+     * 재발급 결과
+     *
+     * @param accessToken  새 액세스 토큰
+     * @param refreshToken 교체된 리프레시 토큰
+     */
+    public record RefreshResult(String accessToken, String refreshToken) {
+    }
+}
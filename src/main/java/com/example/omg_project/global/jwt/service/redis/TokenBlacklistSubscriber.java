@@ -0,0 +1,31 @@
+package com.example.omg_project.global.jwt.service.redis;
+
+import com.example.omg_project.global.jwt.service.RedisBlackTokenService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * 다른 서버에서 블랙리스트에 추가된 토큰 해시를 수신하는 Redis 리스너
+ * - 수신한 해시를 로컬 블룸 필터에 추가하여 해당 토큰이 Redis 조회 대상이 되도록 합니다.
+ */
+@Component
+@RequiredArgsConstructor
+public class TokenBlacklistSubscriber implements MessageListener {
+
+    private final RedisBlackTokenService redisBlackTokenService;
+
+    /**
+     * 블랙리스트 토큰 해시를 로컬 필터에 반영
+     *
+     * @param message Redis에서 수신한 메시지 객체 (Base64 토큰 해시)
+     * @param pattern Redis 채널 패턴 (사용되지 않음)
+     */
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        redisBlackTokenService.onBlacklisted(new String(message.getBody(), StandardCharsets.UTF_8));
+    }
+}
@@ -1,5 +1,6 @@
 package com.example.omg_project.global.jwt.token;
 
+import io.jsonwebtoken.Claims;
 import org.springframework.security.authentication.AbstractAuthenticationToken;
 import org.springframework.security.core.GrantedAuthority;
 
@@ -12,6 +13,7 @@ public class JwtAuthenticationToken extends AbstractAuthenticationToken {
     private String token;       // JWT 토큰
     private Object principal;   // 주체 (사용자)
     private Object credentials; // 인증 정보 (자격 증명)
+    private Claims claims;      // 검증된 토큰 클레임 (같은 요청에서 토큰을 다시 파싱하지 않도록 보관)
 
     /**
      * 인증된 토큰을 생성하는 생성자
@@ -26,6 +28,18 @@ public class JwtAuthenticationToken extends AbstractAuthenticationToken {
         this.setAuthenticated(true); // 토큰을 인증된 상태로 설정
     }
 
+    /**
+     * 검증된 클레임을 함께 보관하는 인증된 토큰을 생성하는 생성자
+     * @param authorities   권한
+     * @param principal     주체 (사용자)
+     * @param credentials   인증 정보 (자격 증명)
+     * @param claims        검증된 토큰 클레임
+     */
+    public JwtAuthenticationToken(Collection<? extends GrantedAuthority> authorities, Object principal, Object credentials, Claims claims) {
+        this(authorities, principal, credentials);
+        this.claims = claims;
+    }
+
     /**
      * 인증되지 않은 토큰을 생성하는 생성자
      * @param token JWT 토큰
@@ -53,4 +67,12 @@ public class JwtAuthenticationToken extends AbstractAuthenticationToken {
     public Object getPrincipal() {
         return this.principal;
     }
-}
\ No newline at end of file
+
+    /**
+     * 검증된 토큰 클레임을 반환
+     * @return 클레임 (클레임 없이 생성된 경우 null)
+     */
+    public Claims getClaims() {
+        return this.claims;
+    }
+}
@@ -1,10 +1,16 @@
 package com.example.omg_project.global.jwt.util;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
 import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.ExpiredJwtException;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.SignatureAlgorithm;
 import io.jsonwebtoken.security.Keys;
 import jakarta.servlet.http.HttpServletRequest;
+import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
@@ -14,6 +20,11 @@ import jakarta.servlet.http.Cookie;
 
 import java.nio.charset.StandardCharsets;
 import java.security.Key;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Base64;
 import java.util.Date;
 import java.util.List;
 
@@ -30,31 +41,55 @@ public class JwtTokenizer {
     public static Long ACCESS_TOKEN_EXPIRE_COUNT = 30 * 60 * 1000L; // 30분
     public static Long REFRESH_TOKEN_EXPIRE_COUNT = 7 * 24 * 60 * 60 * 1000L; // 7일
 
+    // 비밀키와 파서는 스레드 안전하므로 한 번만 만들어 재사용
+    @Getter(AccessLevel.NONE)
+    private final Key accessKey;
+    @Getter(AccessLevel.NONE)
+    private final Key refreshKey;
+    @Getter(AccessLevel.NONE)
+    private final JwtParser accessParser;
+    @Getter(AccessLevel.NONE)
+    private final JwtParser refreshParser;
+
+    // 서명 검증을 마친 access token 클레임 캐시 (키: 토큰의 SHA-256, 토큰 만료 시각까지만 보관)
+    // 캐시된 Claims는 외부로 내보내지 않고 호출마다 복사본을 반환
+    @Getter(AccessLevel.NONE)
+    private final Cache<String, Claims> accessClaimsCache;
+
     // .yml 파일에 secretKey, refreshKey 값 존재
     public JwtTokenizer(@Value("${jwt.secretKey}") String accessSecret,
-                        @Value("${jwt.refreshKey}") String refreshSecret){
+                        @Value("${jwt.refreshKey}") String refreshSecret,
+                        @Value("${jwt.claims-cache.max-size:10000}") long claimsCacheMaxSize){
         this.accessSecret = accessSecret.getBytes(StandardCharsets.UTF_8);
         this.refreshSecret = refreshSecret.getBytes(StandardCharsets.UTF_8);
+        this.accessKey = getSigningKey(this.accessSecret);
+        this.refreshKey = getSigningKey(this.refreshSecret);
+        this.accessParser = Jwts.parserBuilder().setSigningKey(accessKey).build();
+        this.refreshParser = Jwts.parserBuilder().setSigningKey(refreshKey).build();
+        this.accessClaimsCache = Caffeine.newBuilder()
+                .maximumSize(claimsCacheMaxSize)
+                .expireAfter(new ClaimsExpiry())
+                .build();
     }
 
     /**
      * AccessToken 생성
      */
     public String createAccessToken(Long id, String username, String name, List<String> roles) {
-        return createToken(id, username, name, roles, ACCESS_TOKEN_EXPIRE_COUNT, accessSecret);
+        return createToken(id, username, name, roles, ACCESS_TOKEN_EXPIRE_COUNT, accessKey);
     }
 
     /**
      * RefreshToken 생성
      */
     public String createRefreshToken(Long id, String username, String name, List<String> roles) {
-        return createToken(id, username, name, roles, REFRESH_TOKEN_EXPIRE_COUNT, refreshSecret);
+        return createToken(id, username, name, roles, REFRESH_TOKEN_EXPIRE_COUNT, refreshKey);
     }
 
     /**
      * Jwts 빌더를 사용하여 token 생성
      */
-    private String createToken(Long id, String username, String name, List<String> roles, long expireCount, byte[] secret) {
+    private String createToken(Long id, String username, String name, List<String> roles, long expireCount, Key signingKey) {
         Claims claims = Jwts.claims().setSubject(username); // 기본으로 가지고 있는 claim : subject
         claims.put("userId", id);
         claims.put("name", name);
@@ -67,7 +102,7 @@ public class JwtTokenizer {
                 .setClaims(claims)
                 .setIssuedAt(now)
                 .setExpiration(expiration)
-                .signWith(SignatureAlgorithm.HS256, getSigningKey(secret))
+                .signWith(signingKey, SignatureAlgorithm.HS256)
                 .compact();
     }
 
@@ -77,7 +112,7 @@ public class JwtTokenizer {
      * @return 사용자 ID
      */
     public Long getUserIdFromToken(String token) {
-        Claims claims = parseToken(token, accessSecret);
+        Claims claims = parseAccessToken(token);
         return claims.get("userId", Long.class);
     }
 
@@ -87,7 +122,7 @@ public class JwtTokenizer {
      * @return 사용자 아이디(이메일)
      */
     public String getUsernameFromToken(String token) {
-        Claims claims = parseToken(token, accessSecret);
+        Claims claims = parseAccessToken(token);
         return claims.getSubject();
     }
 
@@ -97,17 +132,25 @@ public class JwtTokenizer {
      * @return 역할 목록
      */
     public List<String> getRolesFromToken(String token) {
-        Claims claims = parseToken(token, accessSecret);
+        Claims claims = parseAccessToken(token);
         return claims.get("roles", List.class);
     }
 
     /**
      * access token 파싱
+     * 한 번 검증된 토큰은 만료 전까지 캐시된 클레임을 사용하므로 요청마다 서명을 다시 검증하지 않음
+     * 반환값은 캐시와 분리된 복사본이므로 호출하는 쪽에서 수정해도 다른 요청에 영향이 없음
      * @param accessToken access token
      * @return 파싱된 토큰
      */
     public Claims parseAccessToken(String accessToken) {
-        return parseToken(accessToken, accessSecret);
+        String cacheKey = hash(accessToken);
+        Claims cached = accessClaimsCache.getIfPresent(cacheKey);
+        if (cached == null || isExpired(cached)) {
+            cached = accessParser.parseClaimsJws(accessToken).getBody(); // 만료/위조 시 예외 발생
+            accessClaimsCache.put(cacheKey, cached);
+        }
+        return copyOf(cached);
     }
 
     /**
@@ -116,13 +159,14 @@ public class JwtTokenizer {
      * @return 파싱된 토큰
      */
     public Claims parseRefreshToken(String refreshToken) {
-        return parseToken(refreshToken, refreshSecret);
+        return refreshParser.parseClaimsJws(refreshToken).getBody();
     }
 
     /**
-     * token 파싱
-     * @param token access/refresh token
-     * @param secretKey access/refresh 비밀키
+     * 임의의 비밀키로 token 파싱
+     * access/refresh token은 미리 만들어 둔 파서를 쓰는 parseAccessToken / parseRefreshToken 사용
+     * @param token JWT 토큰
+     * @param secretKey 비밀키
      * @return 파싱된 토큰
      */
     public Claims parseToken(String token, byte[] secretKey) {
@@ -146,9 +190,9 @@ public class JwtTokenizer {
      */
     public boolean isTokenExpired(String token, byte[] secretKey) {
         try {
-            Jwts.parserBuilder().setSigningKey(getSigningKey(secretKey)).build().parseClaimsJws(token).getBody();
+            parseToken(token, secretKey);
             return false;
-        } catch (io.jsonwebtoken.ExpiredJwtException e) {
+        } catch (ExpiredJwtException e) {
             return true;
         }
     }
@@ -157,14 +201,24 @@ public class JwtTokenizer {
      * 액세스 토큰이 만료되었는지 확인
      */
     public boolean isAccessTokenExpired(String accessToken) {
-        return isTokenExpired(accessToken, accessSecret);
+        try {
+            parseAccessToken(accessToken);
+            return false;
+        } catch (ExpiredJwtException e) {
+            return true;
+        }
     }
 
     /**
      * 리프레시 토큰이 만료되었는지 확인
      */
     public boolean isRefreshTokenExpired(String refreshToken) {
-        return isTokenExpired(refreshToken, refreshSecret);
+        try {
+            parseRefreshToken(refreshToken);
+            return false;
+        } catch (ExpiredJwtException e) {
+            return true;
+        }
     }
 
     /**
@@ -193,4 +247,58 @@ public class JwtTokenizer {
         }
         return null;
     }
-}
\ No newline at end of file
+
+    private boolean isExpired(Claims claims) {
+        Date expiration = claims.getExpiration();
+        return expiration != null && expiration.getTime() <= System.currentTimeMillis();
+    }
+
+    /**
+     * 캐시된 클레임의 복사본 생성 (roles 같은 리스트 값도 함께 복사)
+     */
+    private static Claims copyOf(Claims source) {
+        Claims copy = Jwts.claims();
+        source.forEach((key, value) -> copy.put(key, value instanceof List<?> list ? new ArrayList<>(list) : value));
+        return copy;
+    }
+
+    /**
+     * 캐시 키로 사용할 토큰의 SHA-256 해시 (토큰 원문을 메모리에 키로 남기지 않음)
+     */
+    private static String hash(String token) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.UTF_8));
+            return Base64.getEncoder().encodeToString(digest);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+
+    /**
+     * 캐시 항목을 토큰의 만료 시각에 맞춰 제거하는 정책
+     */
+    private static class ClaimsExpiry implements Expiry<String, Claims> {
+
+        private static final long MAX_TTL_NANOS = Duration.ofMillis(ACCESS_TOKEN_EXPIRE_COUNT).toNanos();
+
+        @Override
+        public long expireAfterCreate(String key, Claims claims, long currentTime) {
+            Date expiration = claims.getExpiration();
+            if (expiration == null) {
+                return MAX_TTL_NANOS;
+            }
+            long remainingMillis = expiration.getTime() - System.currentTimeMillis();
+            return Math.max(0, Math.min(MAX_TTL_NANOS, Duration.ofMillis(remainingMillis).toNanos()));
+        }
+
+        @Override
+        public long expireAfterUpdate(String key, Claims claims, long currentTime, long currentDuration) {
+            return expireAfterCreate(key, claims, currentTime);
+        }
+
+        @Override
+        public long expireAfterRead(String key, Claims claims, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+    }
+}
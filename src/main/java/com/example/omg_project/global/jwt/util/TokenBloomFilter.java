@@ -0,0 +1,69 @@
+package com.example.omg_project.global.jwt.util;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * 토큰 해시(SHA-256)를 담는 스레드 안전한 블룸 필터
+ * - mightContain이 false면 절대 추가된 적이 없는 토큰이고, true면 추가되었을 수도 있는 토큰입니다.
+ * - 삭제는 지원하지 않으므로 만료된 항목은 필터를 새로 만들어 정리합니다.
+ */
+public final class TokenBloomFilter {
+
+    private final AtomicLongArray words;
+    private final long bitCount;
+    private final int hashCount;
+
+    /**
+     * @param expectedInsertions 예상 항목 수
+     * @param falsePositiveRate  허용할 오탐률 (예: 0.01)
+     */
+    public TokenBloomFilter(long expectedInsertions, double falsePositiveRate) {
+        long n = Math.max(1, expectedInsertions);
+        long m = (long) Math.ceil(-n * Math.log(falsePositiveRate) / (Math.log(2) * Math.log(2)));
+        int wordCount = (int) Math.max(1, (m + 63) / 64);
+        this.words = new AtomicLongArray(wordCount);
+        this.bitCount = (long) wordCount * 64;
+        this.hashCount = Math.max(1, (int) Math.round((double) bitCount / n * Math.log(2)));
+    }
+
+    /**
+     * 토큰 해시를 필터에 추가
+     *
+     * @param digest 토큰의 SHA-256 해시 (최소 16바이트)
+     */
+    public void put(byte[] digest) {
+        long h1 = toLong(digest, 0);
+        long h2 = toLong(digest, 8);
+        for (int i = 0; i < hashCount; i++) {
+            long bit = Math.floorMod(h1 + i * h2, bitCount);
+            long mask = 1L << (bit & 63);
+            words.getAndUpdate((int) (bit >>> 6), word -> word | mask);
+        }
+    }
+
+    /**
+     * 토큰 해시가 필터에 있을 수 있는지 확인
+     *
+     * @param digest 토큰의 SHA-256 해시 (최소 16바이트)
+     * @return 추가된 적이 없으면 false
+     */
+    public boolean mightContain(byte[] digest) {
+        long h1 = toLong(digest, 0);
+        long h2 = toLong(digest, 8);
+        for (int i = 0; i < hashCount; i++) {
+            long bit = Math.floorMod(h1 + i * h2, bitCount);
+            if ((words.get((int) (bit >>> 6)) & (1L << (bit & 63))) == 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static long toLong(byte[] bytes, int offset) {
+        long value = 0;
+        for (int i = 0; i < 8; i++) {
+            value = (value << 8) | (bytes[offset + i] & 0xFF);
+        }
+        return value;
+    }
+}
@@ -0,0 +1,17 @@
+package com.example.omg_project.global.security;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * 컨트롤러 파라미터에 현재 로그인한 사용자를 주입
+ * - LoginUser 타입: 검증된 토큰 클레임과 짧게 캐시된 사용자 정보로 생성 (DB 조회 없음, 캐시 미스 시 1회)
+ * - User 타입: 요청당 한 번만 조회한 엔티티
+ * 로그인하지 않은 요청이면 null이 주입됩니다.
+ */
+@Target(ElementType.PARAMETER)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface CurrentUser {
+}
@@ -0,0 +1,91 @@
+package com.example.omg_project.global.security;
+
+import com.example.omg_project.domain.user.entity.User;
+import com.example.omg_project.domain.user.service.LoginUserService;
+import com.example.omg_project.domain.user.service.UserService;
+import com.example.omg_project.global.jwt.service.RedisBlackTokenService;
+import com.example.omg_project.global.jwt.token.JwtAuthenticationToken;
+import com.example.omg_project.global.jwt.util.JwtTokenizer;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtException;
+import jakarta.servlet.http.HttpServletRequest;
+import lombok.RequiredArgsConstructor;
+import org.springframework.core.MethodParameter;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+import org.springframework.web.bind.support.WebDataBinderFactory;
+import org.springframework.web.context.request.NativeWebRequest;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.method.support.HandlerMethodArgumentResolver;
+import org.springframework.web.method.support.ModelAndViewContainer;
+
+/**
+ * @CurrentUser 파라미터에 현재 로그인한 사용자를 주입하는 리졸버
+ * - JWTFilter가 SecurityContext에 담아 둔 검증된 클레임을 사용하므로 토큰을 다시 파싱하지 않습니다.
+ * - 인증 필터를 거치지 않는 허용 경로에서는 쿠키의 토큰을 확인합니다. (검증된 클레임 캐시 사용)
+ */
+@Component
+@RequiredArgsConstructor
+public class CurrentUserArgumentResolver implements HandlerMethodArgumentResolver {
+
+    private static final String USER_ATTRIBUTE = CurrentUserArgumentResolver.class.getName() + ".USER";
+
+    private final JwtTokenizer jwtTokenizer;
+    private final RedisBlackTokenService redisBlackTokenService;
+    private final LoginUserService loginUserService;
+    private final UserService userService;
+
+    @Override
+    public boolean supportsParameter(MethodParameter parameter) {
+        Class<?> type = parameter.getParameterType();
+        return parameter.hasParameterAnnotation(CurrentUser.class)
+                && (LoginUser.class.equals(type) || User.class.equals(type));
+    }
+
+    @Override
+    public Object resolveArgument(MethodParameter parameter, ModelAndViewContainer mavContainer,
+                                  NativeWebRequest webRequest, WebDataBinderFactory binderFactory) {
+        Long userId = currentUserId(webRequest);
+        if (userId == null) {
+            return null;
+        }
+
+        if (LoginUser.class.equals(parameter.getParameterType())) {
+            return loginUserService.findLoginUser(userId).orElse(null);
+        }
+
+        // 엔티티가 필요한 경우에도 요청당 한 번만 조회
+        Object cached = webRequest.getAttribute(USER_ATTRIBUTE, RequestAttributes.SCOPE_REQUEST);
+        if (cached instanceof User user) {
+            return user;
+        }
+        User user = userService.findById(userId).orElse(null);
+        if (user != null) {
+            webRequest.setAttribute(USER_ATTRIBUTE, user, RequestAttributes.SCOPE_REQUEST);
+        }
+        return user;
+    }
+
+    private Long currentUserId(NativeWebRequest webRequest) {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication instanceof JwtAuthenticationToken jwtAuthentication && jwtAuthentication.getClaims() != null) {
+            return jwtAuthentication.getClaims().get("userId", Long.class);
+        }
+
+        HttpServletRequest request = webRequest.getNativeRequest(HttpServletRequest.class);
+        String accessToken = request != null ? jwtTokenizer.getAccessTokenFromCookies(request) : null;
+        if (accessToken == null) {
+            return null;
+        }
+        try {
+            Claims claims = jwtTokenizer.parseAccessToken(accessToken);
+            if (redisBlackTokenService.isTokenBlacklisted(accessToken)) {
+                return null;
+            }
+            return claims.get("userId", Long.class);
+        } catch (JwtException | IllegalArgumentException e) {
+            return null;
+        }
+    }
+}
@@ -0,0 +1,18 @@
+package com.example.omg_project.global.security;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 현재 로그인한 사용자의 가벼운 정보
+ * 역할, 팀 등 연관 관계를 불러오지 않으므로 화면 표시와 ID 확인 용도로 사용합니다.
+ */
+@Getter
+@AllArgsConstructor
+public class LoginUser {
+    private final Long id;
+    private final String username; // 이메일
+    private final String name;     // 본명
+    private final String usernick; // 닉네임
+    private final String filepath; // 프로필 이미지 경로
+}
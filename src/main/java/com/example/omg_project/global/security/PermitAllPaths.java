@@ -0,0 +1,75 @@
+package com.example.omg_project.global.security;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * 인증 없이 접근 가능한 경로 목록 (SecurityConfig와 JWTFilter가 함께 사용하는 단일 목록)
+ * - 정확히 일치해야 하는 경로는 Set 조회로, 하위 경로 전체를 허용하는 경로는 접두사 비교로 확인합니다.
+ * - 요청마다 정규식을 컴파일하지 않으므로 정적 리소스 요청의 필터 비용이 줄어듭니다.
+ */
+public final class PermitAllPaths {
+
+    // 정확히 일치하는 경로
+    private static final List<String> EXACT_PATHS = List.of(
+            "/",        // 메인페이지
+            "/signup", // 회원가입 페이지
+            "/signin", // 로그인 페이지
+            "/api/users/login", // 로그인 페이지
+            "/api/users/signup", // 회원가입 페이지
+            "/api/users/mail", "/api/users/verify-code", "/api/users/check-email", "/api/users/check-usernick", // 인증 메일 페이지
+            "/api/users/randomNickname", // 랜덤 닉네임 생성
+            "/api/users/reset-password", "/api/users/verify-temporary-password", "/users/reset-user-password", // 임시 비밀번호 발급
+            "/service",     // 프로젝트 소개 글
+            "/reviewPost/", // 여행 후기 게시글 목록
+            "/joinPost/",    // 일행 모집 게시글 목록
+            "/api/weather", "/api/weather/coords",  // 날씨 API
+            "/faq",          // 고객센터
+            "/api/channel",  // 채널톡
+            "/actuator/health" // 헬스 체크 (메트릭 등 나머지 actuator 경로는 관리자 권한 필요)
+    );
+
+    // 하위 경로 전체를 허용하는 경로 (접두사, '/'로 끝남)
+    private static final List<String> PREFIX_PATHS = List.of(
+            "/css/", "/js/", "/files/", // css, js, 이미지 url
+            "/oauth2/", "/login/oauth2/" // OAuth2 로그인 허용
+    );
+
+    private static final Set<String> EXACT_PATH_SET = Set.copyOf(EXACT_PATHS);
+    private static final String[] PREFIXES = PREFIX_PATHS.toArray(new String[0]);
+
+    private PermitAllPaths() {
+    }
+
+    /**
+     * 요청 경로가 인증 없이 접근 가능한지 확인
+     *
+     * @param requestPath 요청 URI
+     * @return 허용 경로이면 true
+     */
+    public static boolean matches(String requestPath) {
+        if (EXACT_PATH_SET.contains(requestPath)) {
+            return true;
+        }
+        for (String prefix : PREFIXES) {
+            if (requestPath.startsWith(prefix)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Spring Security requestMatchers에 사용할 Ant 패턴 목록
+     *
+     * @return 정확한 경로와 "접두사/**" 패턴
+     */
+    public static String[] antPatterns() {
+        List<String> patterns = new ArrayList<>(EXACT_PATHS);
+        for (String prefix : PREFIX_PATHS) {
+            patterns.add(prefix + "**");
+        }
+        return patterns.toArray(new String[0]);
+    }
+}
@@ -0,0 +1,38 @@
+/**
+ * STOMP 연결 도우미
+ * 네이티브 WebSocket 엔드포인트(/stomp)에 먼저 연결하고,
+ * 브라우저가 WebSocket을 지원하지 않거나 연결에 실패한 경우에만 SockJS(/ws)로 다시 연결합니다.
+ *
+ * @param onConnect 연결 성공 시 호출 (client, frame)
+ * @param onError   SockJS 대체 연결까지 실패했을 때 호출 (error)
+ */
+function connectStomp(onConnect, onError) {
+    const HEARTBEAT_MS = 10000; // 서버의 websocket.heartbeat-ms와 같은 값
+
+    function open(useSockJS) {
+        const socket = useSockJS
+            ? new SockJS('/ws')
+            : new WebSocket((location.protocol === 'https:' ? 'wss://' : 'ws://') + location.host + '/stomp');
+        const client = Stomp.over(socket);
+        client.heartbeat.outgoing = HEARTBEAT_MS;
+        client.heartbeat.incoming = HEARTBEAT_MS;
+        client.debug = null; // 프레임마다 콘솔 로그를 남기지 않음
+
+        let connected = false;
+        client.connect({}, function (frame) {
+            connected = true;
+            onConnect(client, frame);
+        }, function (error) {
+            if (!connected && !useSockJS && typeof SockJS !== 'undefined') {
+                console.log('WebSocket 연결 실패, SockJS로 다시 연결합니다.');
+                open(true);
+                return;
+            }
+            if (onError) {
+                onError(error);
+            }
+        });
+    }
+
+    open(!('WebSocket' in window));
+}
@@ -0,0 +1,87 @@
+package com.example.omg_project.domain.chat.service.impl;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class BadWordAutomatonTest {
+
+    @Test
+    void masksOverlappingWords() {
+        BadWordAutomaton automaton = new BadWordAutomaton(List.of("abc", "bcd"));
+
+        assertThat(automaton.mask("xabcdx")).isEqualTo("x****x");
+    }
+
+    @Test
+    void masksNestedWordsWithTheLongestMatch() {
+        BadWordAutomaton automaton = new BadWordAutomaton(List.of("bad", "badword", "word"));
+
+        assertThat(automaton.mask("badwords")).isEqualTo("*******s");
+        assertThat(automaton.mask("a bad day")).isEqualTo("a *** day");
+        assertThat(automaton.mask("swordfish")).isEqualTo("s****fish");
+    }
+
+    @Test
+    void masksWordFollowedThroughFailureLink() {
+        // "she"를 따라가다 실패 링크로 "he"와 "hers"에 도달하는 경우
+        BadWordAutomaton automaton = new BadWordAutomaton(List.of("he", "she", "hers"));
+
+        assertThat(automaton.mask("ushers")).isEqualTo("u*****");
+    }
+
+    @Test
+    void masksWordAtTheVeryEnd() {
+        BadWordAutomaton automaton = new BadWordAutomaton(List.of("bad"));
+
+        assertThat(automaton.mask("you are bad")).isEqualTo("you are ***");
+        assertThat(automaton.mask("bad")).isEqualTo("***");
+    }
+
+    @Test
+    void treatsRegexMetacharactersLiterally() {
+        BadWordAutomaton automaton = new BadWordAutomaton(List.of("a.b", "(x)", "c+", "[d]", "e*"));
+
+        assertThat(automaton.mask("axb a.b")).isEqualTo("axb ***");
+        assertThat(automaton.mask("(x) x")).isEqualTo("*** x");
+        assertThat(automaton.mask("ccc c+")).isEqualTo("ccc **");
+        assertThat(automaton.mask("d [d]")).isEqualTo("d ***");
+        assertThat(automaton.mask("eee e*")).isEqualTo("eee **");
+    }
+
+    @Test
+    void returnsSameInstanceWhenNothingMatches() {
+        BadWordAutomaton automaton = new BadWordAutomaton(List.of("bad"));
+        String message = "good morning";
+
+        assertThat(automaton.mask(message)).isSameAs(message);
+    }
+
+    @Test
+    void emptyDictionaryLeavesMessageUnchanged() {
+        BadWordAutomaton automaton = new BadWordAutomaton(List.of());
+
+        assertThat(automaton.size()).isZero();
+        assertThat(automaton.mask("anything goes")).isEqualTo("anything goes");
+        assertThat(BadWordAutomaton.EMPTY.mask("anything goes")).isEqualTo("anything goes");
+    }
+
+    @Test
+    void ignoresNullAndBlankWords() {
+        BadWordAutomaton automaton = new BadWordAutomaton(Arrays.asList(null, "", "  ", "bad"));
+
+        assertThat(automaton.size()).isEqualTo(1);
+        assertThat(automaton.mask("  bad  ")).isEqualTo("  ***  ");
+    }
+
+    @Test
+    void handlesNullAndEmptyMessages() {
+        BadWordAutomaton automaton = new BadWordAutomaton(List.of("bad"));
+
+        assertThat(automaton.mask(null)).isNull();
+        assertThat(automaton.mask("")).isEmpty();
+    }
+}
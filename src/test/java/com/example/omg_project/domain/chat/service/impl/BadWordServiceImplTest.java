@@ -0,0 +1,78 @@
+package com.example.omg_project.domain.chat.service.impl;
+
+import com.example.omg_project.domain.chat.entity.BadWord;
+import com.example.omg_project.domain.chat.repository.BadWordRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.SetOperations;
+
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class BadWordServiceImplTest {
+
+    private SetOperations<String, String> setOperations;
+    private BadWordRepository badWordRepository;
+    private BadWordServiceImpl badWordService;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        RedisTemplate<String, String> redisTemplate = mock(RedisTemplate.class);
+        setOperations = mock(SetOperations.class);
+        badWordRepository = mock(BadWordRepository.class);
+        when(redisTemplate.opsForSet()).thenReturn(setOperations);
+        badWordService = new BadWordServiceImpl(redisTemplate, badWordRepository);
+    }
+
+    @Test
+    void combinesRedisAndDatabaseWords() {
+        when(setOperations.members("bad_words")).thenReturn(Set.of("redis"));
+        when(badWordRepository.findAll()).thenReturn(List.of(badWord("db")));
+
+        assertThat(badWordService.filterMessage("redis and db")).isEqualTo("***** and **");
+    }
+
+    @Test
+    void refreshRebuildsTheDictionary() {
+        when(setOperations.members("bad_words")).thenReturn(Set.of("old"));
+        when(badWordRepository.findAll()).thenReturn(List.of());
+        badWordService.refresh();
+        assertThat(badWordService.filterMessage("old new")).isEqualTo("*** new");
+
+        when(setOperations.members("bad_words")).thenReturn(Set.of("new"));
+        badWordService.refresh();
+        assertThat(badWordService.filterMessage("old new")).isEqualTo("old ***");
+    }
+
+    @Test
+    void keepsPreviousDictionaryWhenReloadFails() {
+        when(setOperations.members("bad_words")).thenReturn(Set.of("bad"));
+        when(badWordRepository.findAll()).thenReturn(List.of());
+        badWordService.refresh();
+
+        when(setOperations.members("bad_words")).thenThrow(new IllegalStateException("redis down"));
+        badWordService.refresh();
+
+        assertThat(badWordService.filterMessage("bad")).isEqualTo("***");
+    }
+
+    @Test
+    void emptyDictionaryLeavesMessageUnchanged() {
+        when(setOperations.members("bad_words")).thenReturn(null);
+        when(badWordRepository.findAll()).thenReturn(List.of());
+
+        assertThat(badWordService.filterMessage("hello")).isEqualTo("hello");
+    }
+
+    private static BadWord badWord(String word) {
+        BadWord badWord = new BadWord();
+        badWord.setWord(word);
+        return badWord;
+    }
+}
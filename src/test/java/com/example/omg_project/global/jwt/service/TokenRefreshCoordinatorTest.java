@@ -0,0 +1,256 @@
+package com.example.omg_project.global.jwt.service;
+
+import com.example.omg_project.global.jwt.service.TokenRefreshCoordinator.RefreshResult;
+import com.example.omg_project.global.jwt.util.JwtTokenizer;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class TokenRefreshCoordinatorTest {
+
+    private static final String OLD_REFRESH = "refresh-old";
+    private static final String NEW_REFRESH = "refresh-new";
+    private static final String NEW_ACCESS = "access-new";
+
+    private JwtTokenizer jwtTokenizer;
+    private InMemoryRefreshTokenService refreshTokenService;
+
+    @BeforeEach
+    void setUp() {
+        jwtTokenizer = mock(JwtTokenizer.class);
+        Claims claims = Jwts.claims().setSubject("user@test.com");
+        claims.put("userId", 1L);
+        claims.put("name", "홍길동");
+        claims.put("roles", List.of("ROLE_USER"));
+        when(jwtTokenizer.parseRefreshToken(OLD_REFRESH)).thenReturn(claims);
+        when(jwtTokenizer.createRefreshToken(eq(1L), eq("user@test.com"), eq("홍길동"), eq(List.of("ROLE_USER"))))
+                .thenReturn(NEW_REFRESH, "refresh-discarded"); // 두 번째 발급분은 교체에 실패해 버려져야 함
+        when(jwtTokenizer.createAccessToken(eq(1L), anyString(), anyString(), eq(List.of("ROLE_USER"))))
+                .thenReturn(NEW_ACCESS);
+
+        refreshTokenService = new InMemoryRefreshTokenService(100);
+        refreshTokenService.addRefreshToken(OLD_REFRESH, JwtTokenizer.REFRESH_TOKEN_EXPIRE_COUNT);
+    }
+
+    @Test
+    void concurrentRefreshesOfTheSameTokenRotateOnce() throws Exception {
+        TokenRefreshCoordinator coordinator = new TokenRefreshCoordinator(jwtTokenizer, refreshTokenService, 10_000, 30_000);
+        int threads = 16;
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        CountDownLatch startGate = new CountDownLatch(1);
+
+        try {
+            List<Future<Optional<RefreshResult>>> futures = new ArrayList<>();
+            for (int i = 0; i < threads; i++) {
+                Callable<Optional<RefreshResult>> task = () -> {
+                    startGate.await();
+                    return coordinator.refresh(OLD_REFRESH);
+                };
+                futures.add(executor.submit(task));
+            }
+            startGate.countDown();
+
+            for (Future<Optional<RefreshResult>> future : futures) {
+                assertThat(future.get(5, TimeUnit.SECONDS))
+                        .contains(new RefreshResult(NEW_ACCESS, NEW_REFRESH));
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        assertThat(refreshTokenService.rotations.get()).isEqualTo(1);
+        assertThat(refreshTokenService.getRefreshToken(NEW_REFRESH)).isEqualTo(NEW_REFRESH);
+    }
+
+    @Test
+    void otherNodeWithinGraceGetsTheSameSuccessor() {
+        // 각 서버의 코디네이터는 결과를 공유하지 않으므로 Redis의 "rotated:" 값으로 후속 토큰을 찾음
+        TokenRefreshCoordinator nodeA = new TokenRefreshCoordinator(jwtTokenizer, refreshTokenService, 10_000, 30_000);
+        TokenRefreshCoordinator nodeB = new TokenRefreshCoordinator(jwtTokenizer, refreshTokenService, 10_000, 30_000);
+
+        Optional<RefreshResult> first = nodeA.refresh(OLD_REFRESH);
+        Optional<RefreshResult> second = nodeB.refresh(OLD_REFRESH);
+
+        assertThat(first).contains(new RefreshResult(NEW_ACCESS, NEW_REFRESH));
+        assertThat(second).isEqualTo(first); // nodeB가 새로 만든 토큰이 아닌 nodeA의 후속 토큰
+        assertThat(refreshTokenService.rotations.get()).isEqualTo(1);
+    }
+
+    @Test
+    void replayOfOldTokenAfterTheWindowIsRejected() throws InterruptedException {
+        TokenRefreshCoordinator coordinator = new TokenRefreshCoordinator(jwtTokenizer, refreshTokenService, 50, 50);
+
+        assertThat(coordinator.refresh(OLD_REFRESH)).isPresent();
+
+        Thread.sleep(200); // 공유 구간과 Redis 유예 시간이 모두 지난 뒤
+
+        assertThat(coordinator.refresh(OLD_REFRESH)).isEmpty();
+        assertThat(refreshTokenService.getRefreshToken(NEW_REFRESH)).isEqualTo(NEW_REFRESH);
+    }
+
+    @Test
+    void deletedTokenIsRejected() {
+        TokenRefreshCoordinator coordinator = new TokenRefreshCoordinator(jwtTokenizer, refreshTokenService, 10_000, 30_000);
+        refreshTokenService.deleteRefreshToken(OLD_REFRESH); // 로그아웃
+
+        assertThat(coordinator.refresh(OLD_REFRESH)).isEmpty();
+        assertThat(refreshTokenService.rotations.get()).isZero();
+    }
+
+    @Test
+    void oldTokenWithinGraceIsRejectedAfterLogoutWithNewToken() {
+        TokenRefreshCoordinator coordinator = new TokenRefreshCoordinator(jwtTokenizer, refreshTokenService, 10_000, 30_000);
+        TokenRefreshCoordinator otherNode = new TokenRefreshCoordinator(jwtTokenizer, refreshTokenService, 10_000, 30_000);
+        assertThat(coordinator.refresh(OLD_REFRESH)).isPresent();
+
+        coordinator.revoke(NEW_REFRESH); // 새 쿠키로 로그아웃
+
+        assertThat(coordinator.refresh(OLD_REFRESH)).isEmpty(); // 최근 결과 캐시도 제거됨
+        assertThat(otherNode.refresh(OLD_REFRESH)).isEmpty();   // 유예 중인 이전 키도 제거됨
+        assertThat(refreshTokenService.getRefreshToken(OLD_REFRESH)).isNull();
+    }
+
+    @Test
+    void recentResultOnAnotherNodeIsRejectedAfterLogout() {
+        TokenRefreshCoordinator coordinator = new TokenRefreshCoordinator(jwtTokenizer, refreshTokenService, 10_000, 30_000);
+        TokenRefreshCoordinator otherNode = new TokenRefreshCoordinator(jwtTokenizer, refreshTokenService, 10_000, 30_000);
+        assertThat(coordinator.refresh(OLD_REFRESH)).isPresent();
+
+        otherNode.revoke(NEW_REFRESH); // 다른 서버에서 로그아웃 (이 서버의 최근 결과 캐시는 그대로)
+
+        assertThat(coordinator.refresh(OLD_REFRESH)).isEmpty();
+    }
+
+    @Test
+    void logoutWithOldTokenAlsoRevokesTheSuccessor() {
+        TokenRefreshCoordinator coordinator = new TokenRefreshCoordinator(jwtTokenizer, refreshTokenService, 10_000, 30_000);
+        assertThat(coordinator.refresh(OLD_REFRESH)).isPresent();
+
+        coordinator.revoke(OLD_REFRESH); // 교체 전 쿠키를 가진 탭에서 로그아웃
+
+        assertThat(refreshTokenService.getRefreshToken(NEW_REFRESH)).isNull();
+    }
+
+    @Test
+    void rotateRefreshTokenRunsTheScriptWithBothKeys() {
+        @SuppressWarnings("unchecked")
+        RedisTemplate<String, String> redisTemplate = mock(RedisTemplate.class);
+        when(redisTemplate.execute(any(RedisScript.class),
+                eq(List.of("refreshToken:" + OLD_REFRESH, "refreshToken:" + NEW_REFRESH, "rotatedFrom:" + NEW_REFRESH)),
+                eq(OLD_REFRESH), eq(NEW_REFRESH), eq("1000"), eq("50")))
+                .thenReturn(OLD_REFRESH);
+
+        RedisRefreshTokenService service = new RedisRefreshTokenService(redisTemplate);
+
+        assertThat(service.rotateRefreshToken(OLD_REFRESH, NEW_REFRESH, 1000, 50)).isEqualTo(OLD_REFRESH);
+    }
+
+    /**
+     * ROTATE_SCRIPT와 같은 규칙으로 동작하는 메모리 저장소 (Redis처럼 한 번에 하나의 명령만 실행)
+     */
+    private static class InMemoryRefreshTokenService extends RedisRefreshTokenService {
+
+        private static final String FROM_PREFIX = "from:";
+
+        private final Map<String, Entry> store = new HashMap<>();
+        private final AtomicInteger rotations = new AtomicInteger();
+        private final long rotateDelayMillis;
+
+        InMemoryRefreshTokenService(long rotateDelayMillis) {
+            super(null);
+            this.rotateDelayMillis = rotateDelayMillis;
+        }
+
+        @Override
+        public synchronized void addRefreshToken(String refreshToken, long expiration) {
+            store.put(refreshToken, new Entry(refreshToken, System.currentTimeMillis() + expiration));
+        }
+
+        @Override
+        public synchronized void deleteRefreshToken(String refreshToken) {
+            store.remove(refreshToken);
+        }
+
+        @Override
+        public synchronized void revokeRefreshToken(String refreshToken) {
+            String stored = getRefreshToken(refreshToken);
+            String previous = getRefreshToken(FROM_PREFIX + refreshToken);
+            store.remove(refreshToken);
+            store.remove(FROM_PREFIX + refreshToken);
+            if (stored != null && stored.startsWith(ROTATED_PREFIX)) {
+                store.remove(stored.substring(ROTATED_PREFIX.length()));
+            }
+            if (previous != null) {
+                store.remove(previous);
+            }
+        }
+
+        @Override
+        public synchronized String getRefreshToken(String refreshToken) {
+            Entry entry = store.get(refreshToken);
+            if (entry == null || entry.expiresAt() <= System.currentTimeMillis()) {
+                store.remove(refreshToken);
+                return null;
+            }
+            return entry.value();
+        }
+
+        @Override
+        public String rotateRefreshToken(String refreshToken, String newRefreshToken, long expiration, long graceMillis) {
+            sleep(rotateDelayMillis); // 동시 요청이 겹치도록 Redis 왕복 시간을 흉내냄
+            synchronized (this) {
+                String stored = getRefreshToken(refreshToken);
+                if (stored == null) {
+                    return null;
+                }
+                if (!stored.equals(refreshToken)) {
+                    // 후속 토큰이 폐기(로그아웃)되었으면 이전 토큰으로도 재발급 불가
+                    if (stored.startsWith(ROTATED_PREFIX) && getRefreshToken(stored.substring(ROTATED_PREFIX.length())) == null) {
+                        return null;
+                    }
+                    return stored;
+                }
+                long now = System.currentTimeMillis();
+                store.put(newRefreshToken, new Entry(newRefreshToken, now + expiration));
+                store.put(refreshToken, new Entry(ROTATED_PREFIX + newRefreshToken, now + graceMillis));
+                store.put(FROM_PREFIX + newRefreshToken, new Entry(refreshToken, now + graceMillis));
+                rotations.incrementAndGet();
+                return stored;
+            }
+        }
+
+        private static void sleep(long millis) {
+            try {
+                Thread.sleep(millis);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+
+        private record Entry(String value, long expiresAt) {
+        }
+    }
+}
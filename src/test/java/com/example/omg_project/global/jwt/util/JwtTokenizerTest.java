@@ -0,0 +1,61 @@
+package com.example.omg_project.global.jwt.util;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.security.SignatureException;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class JwtTokenizerTest {
+
+    private static final String ACCESS_SECRET = "access-secret-access-secret-access-secret-0123";
+    private static final String REFRESH_SECRET = "refresh-secret-refresh-secret-refresh-secret-01";
+
+    private final JwtTokenizer jwtTokenizer = new JwtTokenizer(ACCESS_SECRET, REFRESH_SECRET, 100);
+
+    @Test
+    void accessTokenIsSignedWithAccessKeyOnly() {
+        String accessToken = jwtTokenizer.createAccessToken(1L, "user@test.com", "홍길동", List.of("ROLE_USER"));
+
+        assertThat(jwtTokenizer.parseAccessToken(accessToken).getSubject()).isEqualTo("user@test.com");
+        assertThatThrownBy(() -> jwtTokenizer.parseRefreshToken(accessToken))
+                .isInstanceOf(SignatureException.class);
+    }
+
+    @Test
+    void refreshTokenIsSignedWithRefreshKeyOnly() {
+        String refreshToken = jwtTokenizer.createRefreshToken(1L, "user@test.com", "홍길동", List.of("ROLE_USER"));
+
+        assertThat(jwtTokenizer.parseRefreshToken(refreshToken).get("userId", Long.class)).isEqualTo(1L);
+        assertThatThrownBy(() -> jwtTokenizer.parseAccessToken(refreshToken))
+                .isInstanceOf(SignatureException.class);
+    }
+
+    @Test
+    void parseTokenWithExplicitSecretMatchesDedicatedParsers() {
+        String accessToken = jwtTokenizer.createAccessToken(1L, "user@test.com", "홍길동", List.of("ROLE_USER"));
+
+        assertThat(jwtTokenizer.parseToken(accessToken, ACCESS_SECRET.getBytes()).getSubject())
+                .isEqualTo("user@test.com");
+        assertThat(jwtTokenizer.isAccessTokenExpired(accessToken)).isFalse();
+    }
+
+    @Test
+    void cachedClaimsAreNotSharedBetweenCallers() {
+        String accessToken = jwtTokenizer.createAccessToken(1L, "user@test.com", "홍길동", List.of("ROLE_USER"));
+
+        Claims first = jwtTokenizer.parseAccessToken(accessToken);
+        first.setSubject("attacker@test.com");
+        first.put("name", "변경됨");
+        ((List<String>) first.get("roles")).add("ROLE_ADMIN");
+
+        Claims second = jwtTokenizer.parseAccessToken(accessToken);
+        assertThat(second).isNotSameAs(first);
+        assertThat(second.getSubject()).isEqualTo("user@test.com");
+        assertThat(second.get("name", String.class)).isEqualTo("홍길동");
+        assertThat(second.get("roles", List.class)).containsExactly("ROLE_USER");
+    }
+}
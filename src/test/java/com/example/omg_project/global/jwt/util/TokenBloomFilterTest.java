@@ -0,0 +1,64 @@
+package com.example.omg_project.global.jwt.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TokenBloomFilterTest {
+
+    // RedisBlackTokenService 기본 설정과 같은 크기
+    private static final int EXPECTED_INSERTIONS = 100_000;
+    private static final double FALSE_POSITIVE_RATE = 0.01;
+
+    @Test
+    void neverReportsFalseNegativeForInsertedDigests() {
+        TokenBloomFilter filter = new TokenBloomFilter(EXPECTED_INSERTIONS, FALSE_POSITIVE_RATE);
+        for (int i = 0; i < EXPECTED_INSERTIONS; i++) {
+            filter.put(digest("blacklisted-" + i));
+        }
+
+        for (int i = 0; i < EXPECTED_INSERTIONS; i++) {
+            assertThat(filter.mightContain(digest("blacklisted-" + i)))
+                    .as("inserted digest #%d", i)
+                    .isTrue();
+        }
+    }
+
+    @Test
+    void falsePositiveRateStaysNearConfiguredRateAtExpectedSize() {
+        TokenBloomFilter filter = new TokenBloomFilter(EXPECTED_INSERTIONS, FALSE_POSITIVE_RATE);
+        for (int i = 0; i < EXPECTED_INSERTIONS; i++) {
+            filter.put(digest("blacklisted-" + i));
+        }
+
+        int probes = 100_000;
+        int falsePositives = 0;
+        for (int i = 0; i < probes; i++) {
+            if (filter.mightContain(digest("valid-" + i))) {
+                falsePositives++;
+            }
+        }
+
+        // 해시 편차를 감안해 설정값의 두 배까지 허용
+        assertThat((double) falsePositives / probes).isLessThan(FALSE_POSITIVE_RATE * 2);
+    }
+
+    @Test
+    void emptyFilterContainsNothing() {
+        TokenBloomFilter filter = new TokenBloomFilter(EXPECTED_INSERTIONS, FALSE_POSITIVE_RATE);
+
+        assertThat(filter.mightContain(digest("any-token"))).isFalse();
+    }
+
+    private static byte[] digest(String token) {
+        try {
+            return MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.UTF_8));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,88 @@
+package com.example.omg_project.global.security;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.util.AntPathMatcher;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class PermitAllPathsTest {
+
+    // PermitAllPaths 도입 전 JWTFilter가 String.matches로 순회하던 목록 + 이후 추가된 경로
+    private static final List<String> REGEX_PATHS = List.of(
+            "/signup", "/signin", "/", "/api/users/login", "/api/users/signup", "/api/users/mail",
+            "/api/users/verify-code", "/api/users/check-email", "/api/users/check-usernick",
+            "/oauth2/.*", "/login/oauth2/.*", "/api/users/randomNickname", "/css/.*", "/js/.*", "/files/.*",
+            "/api/users/reset-password", "/api/users/verify-temporary-password", "/service",
+            "/reviewPost/", "/joinPost/", "/users/reset-user-password", "/api/weather", "/faq",
+            "/api/weather/coords", "/api/channel",
+            "/actuator/health"
+    );
+
+    private static final List<String> SAMPLE_PATHS = List.of(
+            "/", "/signup", "/signin", "/signin/", "/signinx",
+            "/api/users/login", "/api/users/signup", "/api/users/mail", "/api/users/verify-code",
+            "/api/users/check-email", "/api/users/check-usernick", "/api/users/randomNickname",
+            "/api/users/reset-password", "/api/users/verify-temporary-password", "/users/reset-user-password",
+            "/api/users/me", "/api/users", "/api/users/login/extra",
+            "/service", "/reviewPost/", "/reviewPost", "/reviewPost/1", "/joinPost/", "/joinPost/3",
+            "/api/weather", "/api/weather/coords", "/api/weather/other", "/faq", "/faq/1", "/api/channel",
+            "/css/", "/css/main.css", "/css/sub/dir/a.css", "/cssx/main.css",
+            "/js/", "/js/stomp-connect.js", "/jsx/a.js",
+            "/files/", "/files/profile/a.png",
+            "/oauth2/", "/oauth2/authorization/kakao", "/login/oauth2/", "/login/oauth2/code/google", "/login/other",
+            "/actuator/health", "/actuator/prometheus", "/actuator/env", "/actuator/health/liveness",
+            "/chat/room/1", "/admin", "/trip/list", "/notification", "/ws/info", "/stomp"
+    );
+
+    @Test
+    void matchesAgreesWithLegacyRegexList() {
+        for (String path : SAMPLE_PATHS) {
+            assertThat(PermitAllPaths.matches(path))
+                    .as("path %s", path)
+                    .isEqualTo(legacyMatches(path));
+        }
+    }
+
+    @Test
+    void antPatternsAgreeWithMatches() {
+        AntPathMatcher antPathMatcher = new AntPathMatcher();
+        String[] patterns = PermitAllPaths.antPatterns();
+
+        for (String path : SAMPLE_PATHS) {
+            boolean antMatches = Arrays.stream(patterns).anyMatch(pattern -> antPathMatcher.match(pattern, path));
+            assertThat(antMatches)
+                    .as("path %s", path)
+                    .isEqualTo(PermitAllPaths.matches(path));
+        }
+    }
+
+    @Test
+    void antPatternsCoverEveryLegacyEntry() {
+        List<String> expected = new ArrayList<>();
+        for (String regex : REGEX_PATHS) {
+            expected.add(regex.endsWith("/.*") ? regex.substring(0, regex.length() - 2) + "**" : regex);
+        }
+
+        assertThat(PermitAllPaths.antPatterns()).containsExactlyInAnyOrderElementsOf(expected);
+    }
+
+    @Test
+    void onlyHealthIsPublicAmongActuatorEndpoints() {
+        assertThat(PermitAllPaths.matches("/actuator/health")).isTrue();
+        assertThat(PermitAllPaths.matches("/actuator/prometheus")).isFalse();
+        assertThat(PermitAllPaths.matches("/actuator/env")).isFalse();
+    }
+
+    private static boolean legacyMatches(String path) {
+        for (String pattern : REGEX_PATHS) {
+            if (path.matches(pattern)) {
+                return true;
+            }
+        }
+        return false;
+    }
+}